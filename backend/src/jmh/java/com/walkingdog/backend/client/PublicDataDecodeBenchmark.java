@@ -0,0 +1,61 @@
+package com.walkingdog.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공공데이터 응답 디코딩 (녹화된 에어코리아 / 기상청 응답 한 페이지)
+ *
+ * 스트리밍 디코더(PublicDataJson)와, 비교 기준으로 JsonNode 트리 파싱을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PublicDataDecodeBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] realtime;
+    private byte[] stations;
+    private byte[] nowcast;
+
+    @Setup
+    public void setUp() {
+        realtime = RecordedPayloads.realtime();
+        stations = RecordedPayloads.stations();
+        nowcast = RecordedPayloads.nowcast();
+    }
+
+    @Benchmark
+    public Page<AirMeasurement> realtimeStreaming() throws IOException {
+        return AirKoreaClient.decodeRealtimePage(realtime);
+    }
+
+    /**
+     * 기준: 트리로 파싱 (스트리밍 디코더 도입 전 방식)
+     */
+    @Benchmark
+    public JsonNode realtimeTree() throws IOException {
+        return objectMapper.readTree(realtime);
+    }
+
+    @Benchmark
+    public Page<StationRecord> stationsStreaming() throws IOException {
+        return AirKoreaClient.decodeStationPage(stations);
+    }
+
+    @Benchmark
+    public KmaNowcast nowcastStreaming() throws IOException {
+        return KmaNowcast.from(KmaClient.decodeUltraSrtNcstPage(nowcast).items());
+    }
+}
@@ -0,0 +1,112 @@
+package com.walkingdog.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 벤치마크용 공공데이터 응답 바이트
+ *
+ * 테스트 fixture(fixtures/public-data/{api}.json, {"items": [...]})를 실제 API 봉투로 감싸
+ * 클라이언트가 받는 것과 같은 바이트로 만든다. 실제 응답을 녹화한 디렉터리가 있으면
+ * -Dbench.fixtures=경로 로 바꿔 쓴다 (가짜 공공데이터 서버와 같은 형식).
+ */
+public final class RecordedPayloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RecordedPayloads() {
+    }
+
+    /**
+     * 측정소 목록 (getMsrstnList) 한 페이지
+     */
+    public static byte[] stations() {
+        return airKorea(items("getMsrstnList"));
+    }
+
+    /**
+     * 시도별 실시간 측정정보 (getCtprvnRltmMesureDnsty) 한 페이지, 모든 시도를 한 응답에
+     */
+    public static byte[] realtime() {
+        String items = items("getCtprvnRltmMesureDnsty").toString()
+                .replace("{{dataTime}}", "2026-10-18 14:00");
+        return airKorea(readTree(items));
+    }
+
+    /**
+     * 초단기실황 (getUltraSrtNcst) 한 격자
+     */
+    public static byte[] nowcast() {
+        String items = items("getUltraSrtNcst").toString()
+                .replace("{{baseDate}}", "20261018")
+                .replace("{{baseTime}}", "1400")
+                .replace("{{nx}}", "60")
+                .replace("{{ny}}", "127");
+
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        ObjectNode header = response.putObject("header");
+        header.put("resultCode", "00");
+        header.put("resultMsg", "NORMAL_SERVICE");
+        ObjectNode body = response.putObject("body");
+        body.put("dataType", "JSON");
+        JsonNode page = readTree(items);
+        body.putObject("items").set("item", page);
+        body.put("pageNo", 1);
+        body.put("numOfRows", page.size());
+        body.put("totalCount", page.size());
+        return bytes(root);
+    }
+
+    private static byte[] airKorea(JsonNode items) {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        ObjectNode body = response.putObject("body");
+        body.put("totalCount", items.size());
+        body.set("items", items);
+        body.put("pageNo", 1);
+        body.put("numOfRows", items.size());
+        ObjectNode header = response.putObject("header");
+        header.put("resultMsg", "NORMAL_CODE");
+        header.put("resultCode", "00");
+        return bytes(root);
+    }
+
+    private static JsonNode items(String api) {
+        String directory = System.getProperty("bench.fixtures");
+        try (InputStream in = directory == null || directory.isBlank()
+                ? RecordedPayloads.class.getResourceAsStream("/fixtures/public-data/" + api + ".json")
+                : Files.newInputStream(Path.of(directory, api + ".json"))) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + api + ".json");
+            }
+            return MAPPER.readTree(in).path("items");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode readTree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] bytes(JsonNode root) {
+        try {
+            return MAPPER.writeValueAsString(root).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
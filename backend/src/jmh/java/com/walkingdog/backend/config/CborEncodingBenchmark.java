@@ -0,0 +1,84 @@
+package com.walkingdog.backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import com.walkingdog.backend.service.WalkingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 산책 적합도 일괄 응답(50건) JSON vs CBOR 직렬화 / 파싱
+ *
+ * 크기 비교는 CborEncodingTest에서 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CborEncodingBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = CborConfig.compactCborMapper();
+
+    private List<WalkingSuitabilityResponse> batch;
+    private byte[] jsonBatch;
+    private byte[] cborBatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(suitability(i));
+        }
+        jsonBatch = json.writeValueAsBytes(batch);
+        cborBatch = cbor.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] jsonWrite() throws IOException {
+        return json.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] cborWrite() throws IOException {
+        return cbor.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public JsonNode jsonParse() throws IOException {
+        return json.readTree(jsonBatch);
+    }
+
+    @Benchmark
+    public JsonNode cborParse() throws IOException {
+        return cbor.readTree(cborBatch);
+    }
+
+    private static WalkingSuitabilityResponse suitability(int i) {
+        WalkingSuitabilityResponse response = new WalkingSuitabilityResponse();
+        response.setStatus(WalkingStatus.BAD.getLabel());
+        response.setPm10Value(85 + i % 10);
+        response.setPm25Value(30 + i % 7);
+        response.setTemperature("21.3");
+        response.setSkyCondition(SkyCode.MOSTLY_CLOUDY.getLabel());
+        response.setPrecipitation(PrecipitationType.RAIN_SNOW.getLabel());
+        response.setLocation("서울특별시 강남구 역삼동 " + i);
+        response.setStationName("강남구");
+        return response;
+    }
+}
@@ -0,0 +1,175 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirKoreaClient;
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.client.RecordedPayloads;
+import com.walkingdog.backend.client.StationRecord;
+import com.walkingdog.backend.geo.GeoUtil;
+import com.walkingdog.backend.geo.KmaGridProjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 도는 좌표 계산 (측정소 거리 / 최근접 측정소 / 시도 판정 / 기상청 격자 변환)
+ *
+ * 측정소는 녹화된 측정소 목록에서 시작해, stationCount가 더 크면 주변에 흩뿌린 사본으로 채운다
+ * (전국 측정소는 600여 곳). 조회 좌표는 고정 시드로 만든 국내 좌표를 돌아가며 쓴다.
+ * 시도 판정은 함께 넣은 간략화 경계를 쓴다. 다른 경계 파일은 -Dbench.sido-path=file:/경로/sido.geojson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoBenchmark {
+
+    private static final int POINTS = 1024;
+
+    @Param({"650"})
+    public int stationCount;
+
+    private StationTable table;
+    private List<StationRecord> stations;
+    private AirQualitySnapshot snapshot;
+    private AdminAreaResolver adminAreaResolver;
+    private double[] lats;
+    private double[] lons;
+    private int[] nxs;
+    private int[] nys;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<StationRecord> recorded = AirKoreaClient.decodeStationPage(RecordedPayloads.stations()).items().stream()
+                .filter(station -> station.lat() != 0 && station.lon() != 0)
+                .toList();
+        Random random = new Random(42);
+        stations = new ArrayList<>(Math.max(stationCount, recorded.size()));
+        stations.addAll(recorded);
+        for (int i = 0; stations.size() < stationCount; i++) {
+            StationRecord source = recorded.get(i % recorded.size());
+            stations.add(new StationRecord(source.sidoName(), source.stationName() + "#" + i, source.addr(),
+                    source.lat() + (random.nextDouble() - 0.5) * 0.4,
+                    source.lon() + (random.nextDouble() - 0.5) * 0.4));
+        }
+        table = new StationTable(stations);
+
+        Map<String, List<AirMeasurement>> rows = new HashMap<>();
+        for (int i = 0; i < stations.size(); i++) {
+            StationRecord station = stations.get(i);
+            rows.computeIfAbsent(station.sidoName(), key -> new ArrayList<>())
+                    .add(new AirMeasurement(station.stationName(), 20 + i % 60, 10 + i % 40, 2, "2026-10-18 14:00"));
+        }
+        snapshot = new AirQualitySnapshot(rows, Instant.now());
+
+        adminAreaResolver = new AdminAreaResolver(new DefaultResourceLoader(),
+                System.getProperty("bench.sido-path", AdminAreaResolver.BUNDLED_SIDO_PATH), "name",
+                System.getProperty("bench.sigungu-path", ""), "name",
+                0.05);
+
+        lats = new double[POINTS];
+        lons = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 34.5 + random.nextDouble() * 3.5;
+            lons[i] = 126.5 + random.nextDouble() * 2.5;
+        }
+        nxs = new int[POINTS];
+        nys = new int[POINTS];
+        KmaGridProjector.toGrid(lats, lons, nxs, nys);
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (POINTS - 1);
+    }
+
+    @Benchmark
+    public double distanceKm() {
+        int i = next();
+        return GeoUtil.distanceKm(lats[i], lons[i], 37.5665, 126.9780);
+    }
+
+    /**
+     * k-d 트리 최근접 1곳
+     */
+    @Benchmark
+    public List<NearestStation> nearestStation() {
+        int i = next();
+        return table.nearest(lats[i], lons[i], 1);
+    }
+
+    /**
+     * AirQualityService.findNearestStation과 같은 경로: 후보 5곳 → (시도, 측정소명)으로 실시간 행 조인
+     */
+    @Benchmark
+    public AirMeasurement nearestStationWithMeasurement() {
+        int i = next();
+        for (NearestStation candidate : table.nearest(lats[i], lons[i], 5)) {
+            AirMeasurement row = snapshot.find(candidate.sidoName(), candidate.stationName());
+            if (row != null && row.hasData()) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기준: 전체 측정소 선형 탐색 (공간 인덱스 도입 전 방식)
+     */
+    @Benchmark
+    public StationRecord nearestStationLinearScan() {
+        int i = next();
+        StationRecord nearest = null;
+        double minDistance = Double.MAX_VALUE;
+        for (StationRecord station : stations) {
+            double distance = GeoUtil.distanceKm(lats[i], lons[i], station.lat(), station.lon());
+            if (distance < minDistance) {
+                minDistance = distance;
+                nearest = station;
+            }
+        }
+        return nearest;
+    }
+
+    @Benchmark
+    public String resolveSido() {
+        int i = next();
+        return adminAreaResolver.resolveSido(lats[i], lons[i]);
+    }
+
+    @Benchmark
+    public KmaGridProjector.GridPoint toKmaGrid() {
+        int i = next();
+        return KmaGridProjector.toGrid(lats[i], lons[i]);
+    }
+
+    /**
+     * 격자 배열 변환 (일괄 조회 / 히트맵), 점 하나당 시간으로 환산
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int[] toKmaGridBulk() {
+        KmaGridProjector.toGrid(lats, lons, nxs, nys);
+        return nxs;
+    }
+
+    @Benchmark
+    public double[] fromKmaGrid() {
+        int i = next();
+        return KmaGridProjector.toLatLon(nxs[i], nys[i]);
+    }
+}
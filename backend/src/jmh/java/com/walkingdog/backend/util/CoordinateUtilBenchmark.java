@@ -0,0 +1,84 @@
+package com.walkingdog.backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WGS84 ↔ TM(EPSG:5179) 좌표 변환 (점 하나씩 / 배열 한 번에)
+ * 여러 스레드 경합은 ./gradlew jmh -Pjmh.includes=CoordinateUtilBenchmark -Pjmh.threads=8 로 확인
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinateUtilBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private double[] lats;
+    private double[] lons;
+    private double[] tmXs;
+    private double[] tmYs;
+    private double[] outA;
+    private double[] outB;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[POINTS];
+        lons = new double[POINTS];
+        tmXs = new double[POINTS];
+        tmYs = new double[POINTS];
+        outA = new double[POINTS];
+        outB = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 34.5 + random.nextDouble() * 3.5;
+            lons[i] = 126.5 + random.nextDouble() * 2.5;
+            double[] tm = CoordinateUtil.toTM(lats[i], lons[i]);
+            tmXs[i] = tm[0];
+            tmYs[i] = tm[1];
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (POINTS - 1);
+    }
+
+    @Benchmark
+    public double[] toTM() {
+        int i = next();
+        return CoordinateUtil.toTM(lats[i], lons[i]);
+    }
+
+    @Benchmark
+    public double[] toWGS84() {
+        int i = next();
+        return CoordinateUtil.toWGS84(tmXs[i], tmYs[i]);
+    }
+
+    /**
+     * 배열 API (변환기를 한 번만 빌림), 점 하나당 시간으로 환산
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[] toTMBulk() {
+        CoordinateUtil.toTM(lats, lons, outA, outB);
+        return outA;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[] toWGS84Bulk() {
+        CoordinateUtil.toWGS84(tmXs, tmYs, outA, outB);
+        return outA;
+    }
+}
@@ -0,0 +1,137 @@
+package com.walkingdog.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.walkingdog.backend.support.FakePublicDataServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST API 부하 테스트 (열린 모델)
+ *
+ * 인메모리 H2와 가짜 공공데이터 서버로 앱 한 대를 띄우고, 로그인한 사용자 세션들과 실제에 가까운 좌표 분포로
+ * 세 엔드포인트에 목표 도착률만큼 요청을 흘려 엔드포인트별 처리량, 지연 백분위, 오류율을 출력한다.
+ * 결과는 load.report-dir(기본 build/reports/load)에 JSON으로도 남긴다.
+ *
+ * 조정 (-D):
+ *   load.rate.suitability=200, load.rate.reviews=100, load.rate.favorites=50 (초당 도착 수)
+ *   load.seconds=30, load.warmup-seconds=5, load.users=50, load.max-in-flight=5000
+ *   load.upstream-latency-ms=150, load.virtual-threads=true, load.max-error-rate=0.01
+ */
+class ApiLoadTest {
+
+    private static final double RATE_SUITABILITY = doubleProperty("load.rate.suitability", 200);
+    private static final double RATE_REVIEWS = doubleProperty("load.rate.reviews", 100);
+    private static final double RATE_FAVORITES = doubleProperty("load.rate.favorites", 50);
+    private static final int MEASURE_SECONDS = Integer.getInteger("load.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 5000);
+    private static final int UPSTREAM_LATENCY_MS = Integer.getInteger("load.upstream-latency-ms", 150);
+    private static final boolean VIRTUAL_THREADS =
+            Boolean.parseBoolean(System.getProperty("load.virtual-threads", "true"));
+    private static final double MAX_ERROR_RATE = doubleProperty("load.max-error-rate", 0.01);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void sustainsTargetArrivalRatesOnReadEndpoints() throws Exception {
+        try (FakePublicDataServer upstream = FakePublicDataServer.builder()
+                .latency(Duration.ofMillis(UPSTREAM_LATENCY_MS))
+                .jitter(Duration.ofMillis(UPSTREAM_LATENCY_MS / 3))
+                .start();
+             BackendUnderTest backend = BackendUnderTest.start(upstream,
+                     "--spring.threads.virtual.enabled=" + VIRTUAL_THREADS)) {
+
+            String baseUrl = backend.getBaseUrl();
+            CoordinateMix coordinates = new CoordinateMix(0.8, 200, 42);
+            LoadSessions sessions = LoadSessions.create(baseUrl, USERS, 3, 2, coordinates);
+
+            List<OpenModelLoad.Scenario> scenarios = List.of(
+                    new OpenModelLoad.Scenario("GET /api/walking/suitability", RATE_SUITABILITY, random -> {
+                        double[] point = coordinates.next(random);
+                        return new OpenModelLoad.Call(sessions.anonymous(), get(String.format(Locale.ROOT,
+                                "%s/api/walking/suitability?lat=%.5f&lon=%.5f", baseUrl, point[0], point[1])));
+                    }),
+                    new OpenModelLoad.Scenario("GET /api/reviews/location", RATE_REVIEWS, random -> {
+                        // 대부분은 리뷰가 있는 장소, 일부는 아무도 리뷰하지 않은 좌표
+                        double[] point = random.nextDouble() < 0.8
+                                ? coordinates.randomPlace(random)
+                                : coordinates.next(random);
+                        return new OpenModelLoad.Call(sessions.randomUser(random), get(String.format(Locale.ROOT,
+                                "%s/api/reviews/location?latitude=%.6f&longitude=%.6f", baseUrl, point[0], point[1])));
+                    }),
+                    new OpenModelLoad.Scenario("GET /api/favorites/me", RATE_FAVORITES, random ->
+                            new OpenModelLoad.Call(sessions.randomUser(random), get(baseUrl + "/api/favorites/me"))));
+
+            OpenModelLoad load = new OpenModelLoad(MAX_IN_FLIGHT, REQUEST_TIMEOUT);
+            load.run(scenarios, Duration.ofSeconds(WARMUP_SECONDS));
+            List<OpenModelLoad.EndpointReport> reports = load.run(scenarios, Duration.ofSeconds(MEASURE_SECONDS));
+
+            print(reports, sessions.size());
+            writeReport(reports);
+
+            for (OpenModelLoad.EndpointReport report : reports) {
+                assertThat(report.ok()).as(report.endpoint()).isPositive();
+                assertThat(report.errorRate()).as(report.endpoint()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+            }
+        }
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static void print(List<OpenModelLoad.EndpointReport> reports, int users) {
+        System.out.printf(Locale.ROOT, "%n열린 모델 %d초, 로그인 사용자 %d명, 외부 API 지연 %dms, 가상 스레드 %s%n",
+                MEASURE_SECONDS, users, UPSTREAM_LATENCY_MS, VIRTUAL_THREADS);
+        System.out.printf(Locale.ROOT, "%-30s %8s %8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "target/s", "ok/s", "attempted", "err%", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)",
+                "max(ms)");
+        for (OpenModelLoad.EndpointReport r : reports) {
+            System.out.printf(Locale.ROOT, "%-30s %8.1f %8.1f %9d %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    r.endpoint(), r.targetRate(), r.throughput(), r.attempted(), r.errorRate() * 100,
+                    r.p50Ms(), r.p90Ms(), r.p99Ms(), r.p999Ms(), r.maxMs());
+            if (r.ok() < r.attempted()) {
+                System.out.printf(Locale.ROOT, "%-30s   HTTP 오류 %d, IO 오류 %d, 타임아웃 %d, 미전송(dropped) %d%n",
+                        "", r.httpErrors(), r.ioErrors(), r.timeouts(), r.dropped());
+            }
+        }
+    }
+
+    private static void writeReport(List<OpenModelLoad.EndpointReport> reports) throws Exception {
+        Path directory = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("measureSeconds", MEASURE_SECONDS);
+        report.put("users", USERS);
+        report.put("upstreamLatencyMs", UPSTREAM_LATENCY_MS);
+        report.put("virtualThreads", VIRTUAL_THREADS);
+        report.put("endpoints", reports);
+
+        Path file = directory.resolve("api-load.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        System.out.println("부하 테스트 결과: " + file.toAbsolutePath());
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
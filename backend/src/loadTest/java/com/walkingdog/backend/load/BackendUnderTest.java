@@ -0,0 +1,62 @@
+package com.walkingdog.backend.load;
+
+import com.walkingdog.backend.BackendApplication;
+import com.walkingdog.backend.support.FakePublicDataServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 대상 앱 (빈 포트, 인메모리 H2, 가짜 공공데이터 서버)
+ *
+ * 외부 호출 상한/커넥션 풀은 넉넉하게 풀어 두어 측정 대상(앱 자체)이 아닌 곳에서 막히지 않게 한다.
+ * 추가 인자는 기본값 뒤에 붙으므로 같은 키를 주면 덮어쓴다.
+ */
+public final class BackendUnderTest implements AutoCloseable {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private BackendUnderTest(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    public static BackendUnderTest start(FakePublicDataServer upstream, String... extraArgs) {
+        List<String> args = new ArrayList<>(upstream.applicationArgs());
+        args.addAll(List.of(
+                "--server.port=0",
+                "--public.data.max-concurrency=1024",
+                "--public.data.http.max-total=1024",
+                "--public.data.http.max-per-route=1024",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.walkingdog=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new BackendUnderTest(new SpringApplicationBuilder(BackendApplication.class)
+                .run(args.toArray(String[]::new)));
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
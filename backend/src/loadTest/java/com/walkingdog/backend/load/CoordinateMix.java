@@ -0,0 +1,80 @@
+package com.walkingdog.backend.load;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 좌표 분포
+ *
+ * 실제 조회는 대도시 산책로 주변에 몰리므로 대부분(hotspotShare)은 도시 중심 근처(정규분포, 약 5km)에서,
+ * 나머지는 국토 범위에서 고르게 뽑는다. 리뷰처럼 좌표가 정확히 같아야 조회되는 API를 위해
+ * 고정 시드로 만든 장소 목록(places)도 함께 제공한다 (소수점 6자리로 고정해 문자열 왕복에도 같은 값).
+ */
+final class CoordinateMix {
+
+    // 위도, 경도
+    private static final double[][] HOTSPOTS = {
+            {37.5665, 126.9780},   // 서울 시청
+            {37.5172, 127.0473},   // 서울 강남
+            {37.5509, 126.9225},   // 서울 마포
+            {35.1796, 129.0756},   // 부산
+            {35.8714, 128.6014},   // 대구
+            {37.4563, 126.7052},   // 인천
+            {35.1595, 126.8526},   // 광주
+            {36.3504, 127.3845},   // 대전
+            {35.5384, 129.3114},   // 울산
+            {36.4800, 127.2890},   // 세종
+            {37.2636, 127.0286},   // 수원
+            {37.3943, 127.1107},   // 성남 분당
+            {37.8813, 127.7298},   // 춘천
+            {36.6424, 127.4890},   // 청주
+            {35.8242, 127.1480},   // 전주
+            {33.4996, 126.5312},   // 제주
+    };
+
+    private static final double SPREAD_DEG = 0.045;
+
+    private final double hotspotShare;
+    private final double[][] places;
+
+    CoordinateMix(double hotspotShare, int placeCount, long seed) {
+        this.hotspotShare = hotspotShare;
+        Random random = new Random(seed);
+        this.places = new double[placeCount][];
+        for (int i = 0; i < placeCount; i++) {
+            double[] hotspot = HOTSPOTS[i % HOTSPOTS.length];
+            places[i] = new double[]{
+                    round6(hotspot[0] + random.nextGaussian() * SPREAD_DEG),
+                    round6(hotspot[1] + random.nextGaussian() * SPREAD_DEG)};
+        }
+    }
+
+    /**
+     * 요청 좌표 하나 (위도, 경도)
+     */
+    double[] next(ThreadLocalRandom random) {
+        if (random.nextDouble() < hotspotShare) {
+            double[] hotspot = HOTSPOTS[random.nextInt(HOTSPOTS.length)];
+            return new double[]{
+                    hotspot[0] + random.nextGaussian() * SPREAD_DEG,
+                    hotspot[1] + random.nextGaussian() * SPREAD_DEG};
+        }
+        return new double[]{34.5 + random.nextDouble() * 3.5, 126.5 + random.nextDouble() * 2.5};
+    }
+
+    double[] place(int index) {
+        return places[index];
+    }
+
+    double[] randomPlace(ThreadLocalRandom random) {
+        return places[random.nextInt(places.length)];
+    }
+
+    int placeCount() {
+        return places.length;
+    }
+
+    private static double round6(double value) {
+        return Math.round(value * 1e6) / 1e6;
+    }
+}
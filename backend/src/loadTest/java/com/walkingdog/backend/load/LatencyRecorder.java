@@ -0,0 +1,50 @@
+package com.walkingdog.backend.load;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 지연 기록 (나노초, 전부 보관 후 정렬해서 백분위 계산)
+ * 가상 스레드에서 동시에 기록하므로 synchronized 대신 ReentrantLock을 쓴다.
+ */
+final class LatencyRecorder {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] values = new long[4096];
+    private int count;
+
+    void record(long nanos) {
+        lock.lock();
+        try {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 값 (정렬됨)
+     */
+    long[] snapshot() {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(values, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.walkingdog.backend.load;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그인한 사용자 세션 묶음
+ *
+ * 사용자마다 가입 → 로그인해 JSESSIONID를 가진 HttpClient를 하나씩 만들고,
+ * 즐겨찾기와 리뷰를 장소 목록에서 골라 미리 채워 둔다 (조회 API가 빈 결과만 돌려주지 않도록).
+ */
+final class LoadSessions {
+
+    private final List<HttpClient> clients;
+    private final HttpClient anonymous;
+
+    private LoadSessions(List<HttpClient> clients, HttpClient anonymous) {
+        this.clients = clients;
+        this.anonymous = anonymous;
+    }
+
+    static LoadSessions create(String baseUrl, int users, int favoritesPerUser, int reviewsPerUser,
+                               CoordinateMix coordinates) throws Exception {
+        List<HttpClient> clients = new ArrayList<>(users);
+        try (ExecutorService setup = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpClient>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                int user = i;
+                futures.add(setup.submit(() ->
+                        signIn(baseUrl, user, favoritesPerUser, reviewsPerUser, coordinates)));
+            }
+            for (Future<HttpClient> future : futures) {
+                clients.add(future.get());
+            }
+        }
+        return new LoadSessions(clients, newClient());
+    }
+
+    HttpClient randomUser(ThreadLocalRandom random) {
+        return clients.get(random.nextInt(clients.size()));
+    }
+
+    HttpClient anonymous() {
+        return anonymous;
+    }
+
+    int size() {
+        return clients.size();
+    }
+
+    private static HttpClient signIn(String baseUrl, int user, int favorites, int reviews,
+                                     CoordinateMix coordinates) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .cookieHandler(new CookieManager())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String username = "load" + user;
+        post(client, baseUrl + "/api/auth/join", String.format(Locale.ROOT,
+                "{\"username\":\"%s\",\"password\":\"load-pass\",\"email\":\"%s@load.test\",\"name\":\"부하%d\"}",
+                username, username, user));
+        post(client, baseUrl + "/api/auth/login",
+                "{\"username\":\"" + username + "\",\"password\":\"load-pass\"}");
+
+        for (int i = 0; i < favorites; i++) {
+            double[] place = coordinates.place((user * favorites + i) % coordinates.placeCount());
+            post(client, baseUrl + "/api/favorites", String.format(Locale.ROOT,
+                    "{\"latitude\":%.6f,\"longitude\":%.6f,\"location\":\"장소 %d\"}", place[0], place[1], i));
+        }
+        for (int i = 0; i < reviews; i++) {
+            double[] place = coordinates.place((user * 7 + i * 13) % coordinates.placeCount());
+            post(client, baseUrl + "/api/reviews", String.format(Locale.ROOT,
+                    "{\"latitude\":%.6f,\"longitude\":%.6f,\"location\":\"장소\",\"rating\":%d,\"content\":\"산책하기 좋아요 %d\"}",
+                    place[0], place[1], 1 + (user + i) % 5, i));
+        }
+        return client;
+    }
+
+    private static void post(HttpClient client, String url, String json) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(30))
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        // 즐겨찾기 중복 등은 400이어도 계속 (세션 준비가 목적)
+        if (response.statusCode() >= 500 || (url.endsWith("/login") && !response.body().contains("\"success\":true"))) {
+            throw new IOException("부하 테스트 세션 준비 실패: " + url + " → " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
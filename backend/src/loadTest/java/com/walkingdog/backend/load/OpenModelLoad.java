@@ -0,0 +1,176 @@
+package com.walkingdog.backend.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 발생기
+ *
+ * 엔드포인트마다 목표 도착률(초당 요청 수)로 포아송 도착을 만들고, 응답을 기다리지 않고 요청마다
+ * 가상 스레드 하나로 보낸다. 서버가 느려져도 도착률은 그대로이므로 실제 사용자 트래픽처럼 대기열이 쌓인다.
+ * 지연은 실제 전송 시각이 아니라 예정 도착 시각부터 재서(coordinated omission 보정) 발생기 자체가
+ * 밀려도 그만큼이 지연에 반영된다. 동시 요청이 maxInFlight를 넘으면 보내지 않고 dropped로 센다.
+ */
+final class OpenModelLoad {
+
+    /**
+     * 요청 하나 (세션 쿠키를 가진 사용자별 HttpClient로 보낸다)
+     */
+    record Call(HttpClient client, HttpRequest request) {
+    }
+
+    @FunctionalInterface
+    interface CallFactory {
+        Call next(ThreadLocalRandom random);
+    }
+
+    record Scenario(String endpoint, double ratePerSecond, CallFactory calls) {
+    }
+
+    /**
+     * 엔드포인트별 결과
+     *
+     * @param attempted  예정된 도착 수 (dropped 포함)
+     * @param ok         2xx 응답 수
+     * @param throughput 초당 2xx 응답 수
+     * @param errorRate  (attempted - ok) / attempted
+     */
+    record EndpointReport(String endpoint, double targetRate, long attempted, long ok,
+                          long httpErrors, long ioErrors, long timeouts, long dropped,
+                          double throughput, double errorRate,
+                          double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    private static final class Stats {
+        final LongAdder attempted = new LongAdder();
+        final LongAdder ok = new LongAdder();
+        final LongAdder httpErrors = new LongAdder();
+        final LongAdder ioErrors = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LatencyRecorder latencies = new LatencyRecorder();
+    }
+
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+
+    OpenModelLoad(int maxInFlight, Duration drainTimeout) {
+        this.maxInFlight = maxInFlight;
+        this.drainTimeout = drainTimeout;
+    }
+
+    List<EndpointReport> run(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        List<Stats> stats = new ArrayList<>(scenarios.size());
+        AtomicInteger inFlight = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 도착 시각 계산은 엔드포인트마다 플랫폼 스레드 하나 (가상 스레드 스케줄링 지연의 영향을 받지 않게)
+            List<Thread> generators = new ArrayList<>(scenarios.size());
+            for (Scenario scenario : scenarios) {
+                Stats scenarioStats = new Stats();
+                stats.add(scenarioStats);
+                generators.add(Thread.ofPlatform()
+                        .name("arrivals-" + scenario.endpoint())
+                        .start(() -> generate(scenario, scenarioStats, requests, inFlight, startedAt, endAt)));
+            }
+            for (Thread generator : generators) {
+                generator.join();
+            }
+
+            // 이미 보낸 요청은 끝까지 기다린다 (남은 것은 타임아웃으로 센다)
+            long drainUntil = System.nanoTime() + drainTimeout.toNanos();
+            while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+                Thread.sleep(10);
+            }
+            requests.shutdownNow();
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        List<EndpointReport> reports = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            reports.add(report(scenarios.get(i), stats.get(i), seconds));
+        }
+        return reports;
+    }
+
+    private void generate(Scenario scenario, Stats stats, ExecutorService requests, AtomicInteger inFlight,
+                          long startedAt, long endAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double meanIntervalNanos = 1e9 / scenario.ratePerSecond();
+        long next = startedAt;
+        while (next < endAt) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long intendedAt = next;
+            next += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+
+            stats.attempted.increment();
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                stats.dropped.increment();
+                continue;
+            }
+            Call call = scenario.calls().next(random);
+            requests.execute(() -> {
+                try {
+                    send(call, stats, intendedAt);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private static void send(Call call, Stats stats, long intendedAt) {
+        try {
+            HttpResponse<Void> response = call.client().send(call.request(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                stats.ok.increment();
+                stats.latencies.record(System.nanoTime() - intendedAt);
+            } else {
+                stats.httpErrors.increment();
+            }
+        } catch (HttpTimeoutException e) {
+            stats.timeouts.increment();
+        } catch (IOException e) {
+            stats.ioErrors.increment();
+        } catch (InterruptedException e) {
+            stats.timeouts.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static EndpointReport report(Scenario scenario, Stats stats, double seconds) {
+        long[] sorted = stats.latencies.snapshot();
+        long attempted = stats.attempted.sum();
+        long ok = stats.ok.sum();
+        // 마감 후에도 응답이 없던 요청은 타임아웃으로
+        long unfinished = attempted - ok - stats.httpErrors.sum() - stats.ioErrors.sum()
+                - stats.timeouts.sum() - stats.dropped.sum();
+        return new EndpointReport(scenario.endpoint(), scenario.ratePerSecond(), attempted, ok,
+                stats.httpErrors.sum(), stats.ioErrors.sum(), stats.timeouts.sum() + Math.max(unfinished, 0),
+                stats.dropped.sum(),
+                ok / seconds, attempted == 0 ? 0 : (double) (attempted - ok) / attempted,
+                LatencyRecorder.percentileMs(sorted, 0.50),
+                LatencyRecorder.percentileMs(sorted, 0.90),
+                LatencyRecorder.percentileMs(sorted, 0.99),
+                LatencyRecorder.percentileMs(sorted, 0.999),
+                sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+}
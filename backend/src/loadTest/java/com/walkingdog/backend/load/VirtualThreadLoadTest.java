@@ -0,0 +1,156 @@
+package com.walkingdog.backend.load;
+
+import com.walkingdog.backend.support.FakePublicDataServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled) on/off 부하 비교
+ *
+ * 지연을 흉내 내는 가짜 공공데이터 서버({@link FakePublicDataServer})를 띄우고,
+ * 같은 설정으로 앱을 두 번(플랫폼/가상 스레드) 기동해
+ * /api/walking/suitability에 동시 사용자 N명이 반복 요청할 때의 처리량과 p50/p99 지연을 비교한다.
+ * 기본 test 태스크에는 포함되지 않으며 ./gradlew loadTest --tests '*VirtualThreadLoadTest' 로 실행한다.
+ *
+ * 조정: -Dload.concurrency=400 -Dload.seconds=15 -Dload.upstream-latency-ms=150
+ */
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final int MEASURE_SECONDS = Integer.getInteger("load.seconds", 15);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 3);
+    private static final int UPSTREAM_LATENCY_MS = Integer.getInteger("load.upstream-latency-ms", 150);
+
+    record Result(String mode, long requests, long errors, double throughput, double p50Ms, double p99Ms) {
+    }
+
+    @Test
+    void compareThroughputAndTailLatencyWithAndWithoutVirtualThreads() throws Exception {
+        try (FakePublicDataServer upstream = FakePublicDataServer.builder()
+                .latency(Duration.ofMillis(UPSTREAM_LATENCY_MS))
+                .start()) {
+            Result platform = run(false, upstream);
+            Result virtual = run(true, upstream);
+
+            System.out.printf(Locale.ROOT, "%n동시 사용자 %d명, 외부 API 지연 %dms, 측정 %d초%n",
+                    CONCURRENCY, UPSTREAM_LATENCY_MS, MEASURE_SECONDS);
+            System.out.printf(Locale.ROOT, "%-10s %10s %8s %12s %10s %10s%n",
+                    "mode", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+            for (Result result : List.of(platform, virtual)) {
+                System.out.printf(Locale.ROOT, "%-10s %10d %8d %12.1f %10.1f %10.1f%n", result.mode(),
+                        result.requests(), result.errors(), result.throughput(), result.p50Ms(), result.p99Ms());
+            }
+
+            assertThat(platform.requests()).isPositive();
+            assertThat(virtual.requests()).isPositive();
+            assertThat(virtual.errors()).isLessThanOrEqualTo(virtual.requests() / 100);
+        }
+    }
+
+    private Result run(boolean virtualThreads, FakePublicDataServer upstream) throws Exception {
+        try (BackendUnderTest backend = BackendUnderTest.start(upstream,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // 매 요청이 기상청까지 가도록 캐시 끔 (좌표도 무작위라 single-flight 병합도 드묾)
+                "--weather.cache.max-entries=0",
+                "--walking.suitability.deadline-ms=10000")) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            drive(backend.getPort(), WARMUP_SECONDS);
+            return summarize(mode, drive(backend.getPort(), MEASURE_SECONDS), MEASURE_SECONDS);
+        }
+    }
+
+    /**
+     * 닫힌 모델: 동시 사용자마다 응답을 받으면 바로 다음 요청
+     */
+    private List<long[]> drive(int port, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long endAt = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(users.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < endAt) {
+                        double lat = 34.5 + ThreadLocalRandom.current().nextDouble() * 3.5;
+                        double lon = 126.5 + ThreadLocalRandom.current().nextDouble() * 2.5;
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(String.format(Locale.ROOT,
+                                        "http://localhost:%d/api/walking/suitability?lat=%.4f&lon=%.4f", port, lat, lon)))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors++;
+                                continue;
+                            }
+                        } catch (IOException e) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - startedAt;
+                    }
+                    long[] result = Arrays.copyOf(latencies, count + 1);
+                    result[count] = -errors;   // 마지막 칸: 오류 수 (음수로 표시)
+                    return result;
+                }));
+            }
+            List<long[]> perUser = new ArrayList<>(futures.size());
+            for (Future<long[]> future : futures) {
+                perUser.add(future.get());
+            }
+            return perUser;
+        }
+    }
+
+    private Result summarize(String mode, List<long[]> perUser, int seconds) {
+        long errors = 0;
+        int total = 0;
+        for (long[] user : perUser) {
+            errors += -user[user.length - 1];
+            total += user.length - 1;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] user : perUser) {
+            System.arraycopy(user, 0, all, offset, user.length - 1);
+            offset += user.length - 1;
+        }
+        Arrays.sort(all);
+        return new Result(mode, total, errors, (double) total / seconds,
+                percentileMs(all, 0.50), percentileMs(all, 0.99));
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,197 @@
+package com.walkingdog.backend.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.walkingdog.backend.util.SidoNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 에어코리아 대기오염정보 API 클라이언트
+ * 모든 목록 조회는 totalCount 기준으로 전체 페이지를 받는다.
+ * 같은 시도의 실시간 조회가 동시에 들어오면 호출 하나로 합친다.
+ */
+@Component
+public class AirKoreaClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AirKoreaClient.class);
+
+    private final RestTemplate restTemplate;
+    private final PagedFetcher pagedFetcher;
+    private final SingleFlight<String, List<AirMeasurement>> realtimeFlight;
+
+    @Value("${public.data.api.key:}")
+    private String apiKey;
+
+    @Value("${public.data.air-korea.base-url:http://apis.data.go.kr/B552584}")
+    private String baseUrl;
+
+    @Value("${public.data.page-size:100}")
+    private int pageSize;
+
+    public AirKoreaClient(@Qualifier("upstreamRestTemplate") RestTemplate restTemplate,
+                          PagedFetcher pagedFetcher, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.pagedFetcher = pagedFetcher;
+        this.realtimeFlight = new SingleFlight<>("airkorea.realtime", meterRegistry);
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty() && !apiKey.contains("your-api-key");
+    }
+
+    /**
+     * 시도별 측정소 실시간 측정정보 조회 (getCtprvnRltmMesureDnsty)
+     */
+    public List<AirMeasurement> fetchRealtimeBySido(String sidoName) throws IOException {
+        return realtimeFlight.execute(sidoName,
+                () -> pagedFetcher.fetchAllBlocking(pageSize, pageNo -> fetchRealtimePage(sidoName, pageNo)));
+    }
+
+    public CompletableFuture<List<AirMeasurement>> fetchRealtimeBySidoAsync(String sidoName) {
+        return realtimeFlight.executeAsync(sidoName,
+                () -> pagedFetcher.fetchAll(pageSize, pageNo -> fetchRealtimePage(sidoName, pageNo)));
+    }
+
+    private Page<AirMeasurement> fetchRealtimePage(String sidoName, int pageNo) throws IOException {
+        String url = UriComponentsBuilder
+                .fromUriString(baseUrl + "/ArpltnInforInqireSvc/getCtprvnRltmMesureDnsty")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("returnType", "json")
+                .queryParam("numOfRows", pageSize)
+                .queryParam("pageNo", pageNo)
+                .queryParam("sidoName", sidoName)
+                .queryParam("ver", "1.3")
+                .build(false) // ⭐ serviceKey 이중 인코딩 방지
+                .toUriString();
+
+        logger.debug("에어코리아 API URL: {}", url.replace(apiKey, "***"));
+
+        return decodeRealtimePage(restTemplate.getForObject(url, byte[].class));
+    }
+
+    /**
+     * 실시간 측정정보 응답 → 측정 행 (스트리밍 디코딩)
+     */
+    public static Page<AirMeasurement> decodeRealtimePage(byte[] json) throws IOException {
+        if (json == null) {
+            throw new IOException("에어코리아 API 응답이 비어 있습니다.");
+        }
+        // 한 응답의 행들은 대부분 같은 dataTime을 가지므로 직전 값을 재사용한다
+        String[] lastDataTime = new String[1];
+        return PublicDataJson.readPage(json, parser -> {
+            String stationName = "";
+            int pm10 = 0;
+            int pm25 = 0;
+            int khaiGrade = 0;
+            String dataTime = "";
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "stationName" -> stationName = PublicDataJson.readText(parser);
+                    case "pm10Value" -> pm10 = PublicDataJson.readInt(parser);
+                    case "pm25Value" -> pm25 = PublicDataJson.readInt(parser);
+                    case "khaiGrade" -> khaiGrade = PublicDataJson.readInt(parser);
+                    case "dataTime" -> dataTime = lastDataTime[0] = PublicDataJson.readText(parser, lastDataTime[0]);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new AirMeasurement(stationName, pm10, pm25, khaiGrade, dataTime);
+        });
+    }
+
+    /**
+     * 전국 측정소 정보 조회 (getMsrstnList)
+     * 좌표가 없는 측정소는 제외한다.
+     */
+    public List<StationRecord> fetchStations() throws IOException {
+        List<StationRecord> stations = pagedFetcher.fetchAllBlocking(pageSize, this::fetchStationPage);
+        List<StationRecord> located = new ArrayList<>(stations.size());
+        for (StationRecord station : stations) {
+            if (station.lat() == 0 || station.lon() == 0) {
+                logger.debug("측정소 {} 좌표 없음, 제외됨 (addr={})", station.stationName(), station.addr());
+                continue;
+            }
+            located.add(station);
+        }
+        if (located.size() < stations.size()) {
+            logger.warn("측정소 정보: 좌표 없는 측정소 {}개 제외", stations.size() - located.size());
+        }
+        return located;
+    }
+
+    private Page<StationRecord> fetchStationPage(int pageNo) throws IOException {
+        String url = UriComponentsBuilder
+                .fromUriString(baseUrl + "/MsrstnInfoInqireSvc/getMsrstnList")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("returnType", "json")
+                .queryParam("numOfRows", pageSize)
+                .queryParam("pageNo", pageNo)
+                .build(false)
+                .toUriString();
+
+        return decodeStationPage(restTemplate.getForObject(url, byte[].class));
+    }
+
+    /**
+     * 측정소 목록 응답 → 측정소 레코드 (스트리밍 디코딩)
+     */
+    public static Page<StationRecord> decodeStationPage(byte[] json) throws IOException {
+        if (json == null) {
+            throw new IOException("에어코리아 API 응답이 비어 있습니다.");
+        }
+        return PublicDataJson.readPage(json, AirKoreaClient::readStation);
+    }
+
+    private static StationRecord readStation(JsonParser parser) throws IOException {
+        String stationName = "";
+        String addr = "";
+        double dmX = Double.NaN;
+        double dmY = Double.NaN;
+        double tmX = Double.NaN;
+        double tmY = Double.NaN;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "stationName" -> stationName = PublicDataJson.readText(parser);
+                case "addr" -> addr = PublicDataJson.readText(parser);
+                case "dmX" -> dmX = PublicDataJson.readDouble(parser);
+                case "dmY" -> dmY = PublicDataJson.readDouble(parser);
+                case "tmX" -> tmX = PublicDataJson.readDouble(parser);
+                case "tmY" -> tmY = PublicDataJson.readDouble(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        // 에어코리아 API의 dmX, dmY는 WGS84 좌표 (dmX=위도, dmY=경도)
+        double lat = coordinateOrZero(dmX);
+        double lon = coordinateOrZero(dmY);
+
+        // dmX, dmY가 없으면 tmX, tmY가 위경도 범위일 때만 사용
+        if (lat == 0 && tmX > 33 && tmX < 43) {
+            lat = tmX;
+        }
+        if (lon == 0 && tmY > 124 && tmY < 132) {
+            lon = tmY;
+        }
+
+        return new StationRecord(SidoNames.fromAddress(addr), stationName, addr, lat, lon);
+    }
+
+    private static double coordinateOrZero(double value) {
+        return Double.isNaN(value) ? 0.0 : value;
+    }
+}
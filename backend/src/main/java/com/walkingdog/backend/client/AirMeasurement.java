@@ -0,0 +1,30 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 에어코리아 실시간 측정정보 한 행 (측정소 1곳)
+ * 스냅샷에 보관되므로 불변 값만 가진다.
+ *
+ * @param khaiGrade 통합대기환경지수 등급 (1 좋음 ~ 4 매우나쁨, 0 = 값 없음)
+ */
+public record AirMeasurement(
+        String stationName,
+        int pm10Value,
+        int pm25Value,
+        int khaiGrade,
+        String dataTime
+) {
+
+    /**
+     * 점검 중 등으로 PM 값이 모두 비어 있는("-") 행이 아닌지
+     */
+    public boolean hasData() {
+        return pm10Value > 0 || pm25Value > 0;
+    }
+
+    /**
+     * 응답용 등급 문자열 (값 없음은 에어코리아 표기대로 "-")
+     */
+    public String khaiGradeText() {
+        return khaiGrade > 0 ? String.valueOf(khaiGrade) : "-";
+    }
+}
@@ -0,0 +1,35 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 기상청 초단기실황 자료구분코드
+ */
+public enum KmaCategory {
+    T1H,    // 기온(℃)
+    RN1,    // 1시간 강수량(mm)
+    UUU,    // 동서바람성분(m/s)
+    VVV,    // 남북바람성분(m/s)
+    REH,    // 습도(%)
+    PTY,    // 강수형태(코드)
+    VEC,    // 풍향(deg)
+    WSD,    // 풍속(m/s)
+    SKY,    // 하늘상태(코드)
+    UNKNOWN;
+
+    public static KmaCategory from(String code) {
+        if (code == null) {
+            return UNKNOWN;
+        }
+        return switch (code) {
+            case "T1H" -> T1H;
+            case "RN1" -> RN1;
+            case "UUU" -> UUU;
+            case "VVV" -> VVV;
+            case "REH" -> REH;
+            case "PTY" -> PTY;
+            case "VEC" -> VEC;
+            case "WSD" -> WSD;
+            case "SKY" -> SKY;
+            default -> UNKNOWN;
+        };
+    }
+}
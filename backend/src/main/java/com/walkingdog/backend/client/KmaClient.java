@@ -0,0 +1,103 @@
+package com.walkingdog.backend.client;
+
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+
+/**
+ * 기상청 단기예보 조회서비스 클라이언트
+ * 같은 격자/발표시각의 초단기실황 조회가 동시에 들어오면 호출 하나로 합친다.
+ */
+@Component
+public class KmaClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(KmaClient.class);
+
+    private final RestTemplate restTemplate;
+    private final PagedFetcher pagedFetcher;
+    private final SingleFlight<NowcastKey, KmaNowcast> nowcastFlight;
+
+    @Value("${public.data.api.key:}")
+    private String apiKey;
+
+    @Value("${public.data.kma.base-url:http://apis.data.go.kr/1360000}")
+    private String baseUrl;
+
+    @Value("${public.data.page-size:100}")
+    private int pageSize;
+
+    public KmaClient(@Qualifier("upstreamRestTemplate") RestTemplate restTemplate,
+                     PagedFetcher pagedFetcher, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.pagedFetcher = pagedFetcher;
+        this.nowcastFlight = new SingleFlight<>("kma.ultra-srt-ncst", meterRegistry);
+    }
+
+    private record NowcastKey(int nx, int ny, String baseDate, String baseTime) {
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty() && !apiKey.contains("your-api-key");
+    }
+
+    /**
+     * 초단기실황 조회 (getUltraSrtNcst)
+     * 항목별 행을 기온/하늘/강수형태 값 하나로 모은다.
+     */
+    public KmaNowcast fetchUltraSrtNcst(int nx, int ny, String baseDate, String baseTime) throws IOException {
+        return nowcastFlight.execute(new NowcastKey(nx, ny, baseDate, baseTime),
+                () -> KmaNowcast.from(pagedFetcher.fetchAllBlocking(pageSize,
+                        pageNo -> fetchUltraSrtNcstPage(nx, ny, baseDate, baseTime, pageNo))));
+    }
+
+    private Page<KmaObservationItem> fetchUltraSrtNcstPage(int nx, int ny, String baseDate, String baseTime, int pageNo)
+            throws IOException {
+        String url = UriComponentsBuilder
+                .fromUriString(baseUrl + "/VilageFcstInfoService_2.0/getUltraSrtNcst")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("dataType", "JSON")
+                .queryParam("base_date", baseDate)
+                .queryParam("base_time", baseTime)
+                .queryParam("nx", nx)
+                .queryParam("ny", ny)
+                .build(false)   // ⭐ 이중 인코딩 방지
+                .toUriString();
+
+        logger.debug("기상청 API URL: {}", url.replace(apiKey, "***"));
+
+        return decodeUltraSrtNcstPage(restTemplate.getForObject(url, byte[].class));
+    }
+
+    /**
+     * 초단기실황 응답 → 관측 항목 (스트리밍 디코딩)
+     */
+    public static Page<KmaObservationItem> decodeUltraSrtNcstPage(byte[] json) throws IOException {
+        if (json == null) {
+            throw new IOException("기상청 API 응답이 비어 있습니다.");
+        }
+        return PublicDataJson.readPage(json, parser -> {
+            KmaCategory category = KmaCategory.UNKNOWN;
+            double value = Double.NaN;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "category" -> category = KmaCategory.from(parser.getValueAsString());
+                    case "obsrValue" -> value = PublicDataJson.readDouble(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new KmaObservationItem(category, value);
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.walkingdog.backend.client;
+
+import java.util.List;
+
+/**
+ * 기상청 초단기실황 한 격자의 관측값 (산책 판단에 쓰는 항목만)
+ *
+ * @param temperature   기온(℃), 없으면 NaN
+ * @param sky           하늘상태, 없으면 null
+ * @param precipitation 강수형태, 없으면 null
+ */
+public record KmaNowcast(double temperature, SkyCode sky, PrecipitationType precipitation) {
+
+    public static final KmaNowcast EMPTY = new KmaNowcast(Double.NaN, null, null);
+
+    public static KmaNowcast from(List<KmaObservationItem> items) {
+        double temperature = Double.NaN;
+        SkyCode sky = null;
+        PrecipitationType precipitation = null;
+        for (KmaObservationItem item : items) {
+            if (Double.isNaN(item.value())) {
+                continue;
+            }
+            switch (item.category()) {
+                case T1H -> temperature = item.value();
+                case SKY -> sky = SkyCode.fromCode((int) item.value());
+                case PTY -> precipitation = PrecipitationType.fromCode((int) item.value());
+                default -> { }
+            }
+        }
+        return new KmaNowcast(temperature, sky, precipitation);
+    }
+
+    public boolean isEmpty() {
+        return Double.isNaN(temperature) && sky == null && precipitation == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 기상청 초단기실황 항목 한 건 (category + obsrValue)
+ *
+ * @param value 관측값 (숫자가 아니면 NaN)
+ */
+public record KmaObservationItem(KmaCategory category, double value) {
+}
@@ -0,0 +1,13 @@
+package com.walkingdog.backend.client;
+
+import java.util.List;
+
+/**
+ * 공공데이터 API 응답 한 페이지 (items + body.totalCount)
+ */
+public record Page<T>(List<T> items, int totalCount) {
+
+    public int pageCount(int pageSize) {
+        return totalCount <= 0 ? 1 : (totalCount + pageSize - 1) / pageSize;
+    }
+}
@@ -0,0 +1,98 @@
+package com.walkingdog.backend.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 공공데이터 API 전체 페이지 조회
+ *
+ * 첫 페이지의 totalCount로 전체 페이지 수를 구한 뒤 나머지 페이지를 upstream 실행기에서 동시에 불러와
+ * 페이지 순서대로 합친다. 대기 중에 풀 스레드를 붙잡지 않도록 CompletableFuture 조합으로만 연결한다.
+ * 결과 목록은 여러 호출자가 공유할 수 있으므로 수정 불가로 돌려준다.
+ */
+@Component
+public class PagedFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagedFetcher.class);
+
+    // totalCount가 비정상적으로 클 때 호출 폭주 방지
+    static final int MAX_PAGES = 50;
+
+    private final ExecutorService executor;
+
+    public PagedFetcher(@Qualifier("upstreamExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        Page<T> load(int pageNo) throws IOException;
+    }
+
+    public <T> CompletableFuture<List<T>> fetchAll(int pageSize, PageLoader<T> loader) {
+        return CompletableFuture.supplyAsync(() -> load(loader, 1), executor)
+                .thenCompose(first -> {
+                    int pages = first.pageCount(pageSize);
+                    if (pages > MAX_PAGES) {
+                        logger.warn("페이지 수 {}개가 상한 {}개를 넘어 잘라냄 (totalCount={})",
+                                pages, MAX_PAGES, first.totalCount());
+                        pages = MAX_PAGES;
+                    }
+                    if (pages <= 1) {
+                        return CompletableFuture.completedFuture(Collections.unmodifiableList(first.items()));
+                    }
+
+                    List<CompletableFuture<Page<T>>> rest = new ArrayList<>(pages - 1);
+                    for (int pageNo = 2; pageNo <= pages; pageNo++) {
+                        int current = pageNo;
+                        rest.add(CompletableFuture.supplyAsync(() -> load(loader, current), executor));
+                    }
+
+                    return CompletableFuture.allOf(rest.toArray(new CompletableFuture[0]))
+                            .thenApply(done -> {
+                                List<T> merged = new ArrayList<>(Math.max(first.totalCount(), first.items().size()));
+                                merged.addAll(first.items());
+                                for (CompletableFuture<Page<T>> page : rest) {
+                                    merged.addAll(page.join().items());
+                                }
+                                return Collections.unmodifiableList(merged);
+                            });
+                });
+    }
+
+    /**
+     * 동기 호출용: 완료까지 기다리고 IOException은 그대로 던진다.
+     */
+    public <T> List<T> fetchAllBlocking(int pageSize, PageLoader<T> loader) throws IOException {
+        try {
+            return fetchAll(pageSize, loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static <T> Page<T> load(PageLoader<T> loader, int pageNo) {
+        try {
+            return loader.load(pageNo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
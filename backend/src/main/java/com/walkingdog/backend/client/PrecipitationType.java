@@ -0,0 +1,41 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 기상청 강수형태(PTY) 코드
+ */
+public enum PrecipitationType {
+    NONE(0, "없음"),
+    RAIN(1, "비"),
+    RAIN_SNOW(2, "비/눈"),
+    SNOW(3, "눈"),
+    SHOWER(4, "소나기");
+
+    private final int code;
+    private final String label;
+
+    PrecipitationType(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 알 수 없는 코드는 강수 없음으로 본다.
+     */
+    public static PrecipitationType fromCode(int code) {
+        return switch (code) {
+            case 1 -> RAIN;
+            case 2 -> RAIN_SNOW;
+            case 3 -> SNOW;
+            case 4 -> SHOWER;
+            default -> NONE;
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package com.walkingdog.backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공공데이터포탈 JSON 응답 스트리밍 디코더
+ *
+ * {"response": {"header": {...}, "body": {"totalCount": n, "items": [...] 또는 {"item": [...]}}}}
+ * 구조를 JsonNode 트리 없이 한 번 훑으면서 item 객체마다 ItemReader로 바로 레코드를 만든다.
+ * 숫자 문자열("35", "-")은 문자 버퍼에서 직접 파싱해 중간 String을 만들지 않는다.
+ */
+public final class PublicDataJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 정상, 데이터 없음(NODATA_ERROR)
+    private static final String RESULT_OK = "00";
+    private static final String RESULT_NO_DATA = "03";
+
+    private PublicDataJson() {
+    }
+
+    /**
+     * item 객체 하나를 읽는다. 호출 시 parser는 START_OBJECT에 있고, 반환 시 END_OBJECT에 있어야 한다.
+     */
+    @FunctionalInterface
+    public interface ItemReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    public static <T> Page<T> readPage(byte[] json, ItemReader<T> reader) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("공공데이터 API 응답이 JSON 객체가 아닙니다.");
+            }
+            Envelope<T> envelope = new Envelope<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("response".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    readResponse(parser, reader, envelope);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (envelope.resultCode != null
+                    && !RESULT_OK.equals(envelope.resultCode)
+                    && !RESULT_NO_DATA.equals(envelope.resultCode)) {
+                throw new IOException("공공데이터 API 오류: resultCode=" + envelope.resultCode
+                        + ", resultMsg=" + envelope.resultMsg);
+            }
+            return new Page<>(envelope.items, envelope.totalCount >= 0 ? envelope.totalCount : envelope.items.size());
+        }
+    }
+
+    private static final class Envelope<T> {
+        String resultCode;
+        String resultMsg;
+        int totalCount = -1;
+        final List<T> items = new ArrayList<>();
+    }
+
+    private static <T> void readResponse(JsonParser parser, ItemReader<T> reader, Envelope<T> envelope) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("header".equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String headerField = parser.currentName();
+                    parser.nextToken();
+                    if ("resultCode".equals(headerField)) {
+                        envelope.resultCode = parser.getValueAsString();
+                    } else if ("resultMsg".equals(headerField)) {
+                        envelope.resultMsg = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("body".equals(field) && token == JsonToken.START_OBJECT) {
+                readBody(parser, reader, envelope);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static <T> void readBody(JsonParser parser, ItemReader<T> reader, Envelope<T> envelope) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("totalCount".equals(field)) {
+                envelope.totalCount = readInt(parser);
+            } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                readItems(parser, reader, envelope.items);
+            } else if ("items".equals(field) && token == JsonToken.START_OBJECT) {
+                // 기상청 등: "items": {"item": [...]}
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String itemsField = parser.currentName();
+                    JsonToken itemsToken = parser.nextToken();
+                    if ("item".equals(itemsField) && itemsToken == JsonToken.START_ARRAY) {
+                        readItems(parser, reader, envelope.items);
+                    } else if ("item".equals(itemsField) && itemsToken == JsonToken.START_OBJECT) {
+                        envelope.items.add(reader.read(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static <T> void readItems(JsonParser parser, ItemReader<T> reader, List<T> items) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                items.add(reader.read(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 현재 값 → int ("-", 빈 값, null, 숫자가 아니면 0)
+     */
+    public static int readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return 0;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int end = offset + parser.getTextLength();
+
+        while (offset < end && chars[offset] == ' ') offset++;
+        while (end > offset && chars[end - 1] == ' ') end--;
+        if (offset == end) {
+            return 0;
+        }
+        boolean negative = chars[offset] == '-';
+        int i = negative ? offset + 1 : offset;
+        if (i == end) {
+            return 0;   // "-" 표기 (측정값 없음)
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == '.') {
+                break;  // 소수점 이하는 버림
+            }
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 현재 값 → double ("-", 빈 값, null, 숫자가 아니면 NaN)
+     */
+    public static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsDouble();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return Double.NaN;
+        }
+        String text = parser.getText().trim();
+        if (text.isEmpty() || "-".equals(text)) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 현재 값 → 문자열 (null이면 빈 문자열)
+     */
+    public static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        String text = parser.getValueAsString();
+        return text != null ? text : "";
+    }
+
+    /**
+     * 현재 값 → 문자열, 직전 값과 같으면 새 String을 만들지 않고 previous를 돌려준다.
+     * 한 응답 안에서 모든 행이 같은 dataTime을 갖는 경우 등에 쓴다.
+     */
+    public static String readText(JsonParser parser, String previous) throws IOException {
+        if (previous != null && parser.currentToken() == JsonToken.VALUE_STRING) {
+            int length = parser.getTextLength();
+            if (length == previous.length()) {
+                char[] chars = parser.getTextCharacters();
+                int offset = parser.getTextOffset();
+                boolean same = true;
+                for (int i = 0; i < length; i++) {
+                    if (chars[offset + i] != previous.charAt(i)) {
+                        same = false;
+                        break;
+                    }
+                }
+                if (same) {
+                    return previous;
+                }
+            }
+        }
+        return readText(parser);
+    }
+}
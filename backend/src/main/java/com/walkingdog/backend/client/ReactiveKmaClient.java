@@ -0,0 +1,96 @@
+package com.walkingdog.backend.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기상청 단기예보 조회서비스 논블로킹 클라이언트 (WebClient)
+ * 응답 디코딩은 KmaClient와 같은 스트리밍 디코더를 쓴다.
+ */
+@Component
+public class ReactiveKmaClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveKmaClient.class);
+
+    // 초단기실황은 격자당 8개 항목이라 보통 한 페이지로 끝난다
+    private static final int MAX_PAGES = 10;
+
+    private final WebClient webClient;
+
+    @Value("${public.data.api.key:}")
+    private String apiKey;
+
+    @Value("${public.data.kma.base-url:http://apis.data.go.kr/1360000}")
+    private String baseUrl;
+
+    @Value("${public.data.page-size:100}")
+    private int pageSize;
+
+    public ReactiveKmaClient(@Qualifier("upstreamWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    /**
+     * 초단기실황 조회 (getUltraSrtNcst)
+     * 구독 취소 시 진행 중인 요청도 함께 취소된다.
+     */
+    public Mono<KmaNowcast> fetchUltraSrtNcst(int nx, int ny, String baseDate, String baseTime) {
+        return fetchPage(nx, ny, baseDate, baseTime, 1)
+                .flatMap(first -> {
+                    int pages = Math.min(first.pageCount(pageSize), MAX_PAGES);
+                    if (pages <= 1) {
+                        return Mono.just(first.items());
+                    }
+                    return Flux.range(2, pages - 1)
+                            .flatMapSequential(pageNo -> fetchPage(nx, ny, baseDate, baseTime, pageNo))
+                            .collectList()
+                            .map(rest -> {
+                                List<KmaObservationItem> merged = new ArrayList<>(first.items());
+                                rest.forEach(page -> merged.addAll(page.items()));
+                                return merged;
+                            });
+                })
+                .map(KmaNowcast::from);
+    }
+
+    private Mono<Page<KmaObservationItem>> fetchPage(int nx, int ny, String baseDate, String baseTime, int pageNo) {
+        String url = UriComponentsBuilder
+                .fromUriString(baseUrl + "/VilageFcstInfoService_2.0/getUltraSrtNcst")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("dataType", "JSON")
+                .queryParam("base_date", baseDate)
+                .queryParam("base_time", baseTime)
+                .queryParam("nx", nx)
+                .queryParam("ny", ny)
+                .build(false)   // ⭐ 이중 인코딩 방지
+                .toUriString();
+
+        logger.debug("기상청 API URL (reactive): {}", url.replace(apiKey, "***"));
+
+        return webClient.get()
+                .uri(URI.create(url))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .flatMap(body -> {
+                    try {
+                        return Mono.just(KmaClient.decodeUltraSrtNcstPage(body));
+                    } catch (IOException e) {
+                        return Mono.error(e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,135 @@
+package com.walkingdog.backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합치는 요청 병합기 (single-flight)
+ *
+ * 진행 중인 호출이 있으면 새 호출을 만들지 않고 그 결과를 함께 받는다.
+ * 완료되는 순간 키를 지우므로 결과를 캐시하지는 않는다 (캐시는 호출부의 몫).
+ * 동기/비동기 호출자가 같은 키를 쓰면 서로의 진행 중 호출에도 합류한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter calls;
+    private final Counter collapsed;
+
+    /**
+     * @param name 메트릭 태그 (예: airkorea.realtime)
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.calls = Counter.builder("upstream.singleflight.calls")
+                .tag("name", name)
+                .description("실제로 외부 API까지 나간 호출 수")
+                .register(meterRegistry);
+        this.collapsed = Counter.builder("upstream.singleflight.collapsed")
+                .tag("name", name)
+                .description("진행 중인 호출에 합류해 생략된 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("upstream.singleflight.in-flight", inFlight, ConcurrentHashMap::size)
+                .tag("name", name)
+                .description("현재 진행 중인 키 수")
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Call<V> {
+        V call() throws IOException;
+    }
+
+    /**
+     * 동기 호출: 첫 호출자는 자기 스레드에서 바로 실행하고, 나머지는 그 결과를 기다린다.
+     */
+    public V execute(K key, Call<V> call) throws IOException {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing);
+        }
+
+        calls.increment();
+        try {
+            V result = call.call();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error(OOM 등)까지 전달해야 기다리던 호출자가 영원히 멈추지 않는다
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 비동기 호출: 같은 키의 진행 중 호출이 있으면 그 결과를 공유한다.
+     * 호출자마다 복사본을 돌려주므로 한 호출자의 cancel이 다른 호출자에게 번지지 않는다.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            collapsed.increment();
+            return existing.copy();
+        }
+
+        calls.increment();
+        try {
+            call.get().whenComplete((result, error) -> {
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(result);
+                }
+            });
+        } catch (Throwable e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+        return mine.copy();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("진행 중인 호출 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 기상청 하늘상태(SKY) 코드
+ */
+public enum SkyCode {
+    CLEAR(1, "맑음"),
+    MOSTLY_CLOUDY(3, "구름많음"),
+    OVERCAST(4, "흐림");
+
+    private final int code;
+    private final String label;
+
+    SkyCode(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 알 수 없는 코드는 맑음으로 본다.
+     */
+    public static SkyCode fromCode(int code) {
+        return switch (code) {
+            case 3 -> MOSTLY_CLOUDY;
+            case 4 -> OVERCAST;
+            default -> CLEAR;
+        };
+    }
+}
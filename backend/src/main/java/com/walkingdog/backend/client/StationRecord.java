@@ -0,0 +1,13 @@
+package com.walkingdog.backend.client;
+
+/**
+ * 에어코리아 측정소 정보 한 건 (WGS84 좌표)
+ */
+public record StationRecord(
+        String sidoName,
+        String stationName,
+        String addr,
+        double lat,
+        double lon
+) {
+}
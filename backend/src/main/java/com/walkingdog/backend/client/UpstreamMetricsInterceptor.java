@@ -0,0 +1,66 @@
+package com.walkingdog.backend.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 엔드포인트별 지연 시간 메트릭 (upstream.requests)
+ *
+ * URL에 serviceKey가 그대로 들어가므로 전체 URI 대신 호스트와 마지막 경로(오퍼레이션명)만 태그로 쓴다.
+ * 응답 헤더를 받을 때까지의 시간이며 본문 읽기는 포함하지 않는다.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public UpstreamMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            record(meterRegistry, request.getURI(), outcome, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * RestTemplate / WebClient 공용 기록
+     */
+    public static void record(MeterRegistry meterRegistry, URI uri, String outcome, long elapsedNanos) {
+        Timer.builder("upstream.requests")
+                .tag("host", String.valueOf(uri.getHost()))
+                .tag("endpoint", endpoint(uri.getPath()))
+                .tag("status", outcome)
+                .description("공공데이터 API 호출 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * /B552584/ArpltnInforInqireSvc/getCtprvnRltmMesureDnsty → getCtprvnRltmMesureDnsty
+     */
+    private static String endpoint(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        int slash = path.lastIndexOf('/');
+        return slash >= 0 && slash < path.length() - 1 ? path.substring(slash + 1) : path;
+    }
+}
@@ -0,0 +1,69 @@
+package com.walkingdog.backend.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walkingdog.backend.dto.AirQualityResponse;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 모바일 클라이언트용 CBOR 응답 (Accept: application/cbor)
+ * JSON 변환기 뒤에 두므로 Accept가 없거나 JSON이면 기존과 같다.
+ * 같은 URL·ETag가 Accept에 따라 JSON / CBOR로 달라지므로 모든 API 응답에 Vary: Accept를 붙인다.
+ */
+@Configuration
+public class CborConfig implements WebMvcConfigurer {
+
+    /**
+     * jackson-dataformat-cbor가 있으면 Spring Boot가 기본 CBOR 변환기를 이미 넣어 두고,
+     * 변환기는 앞에서부터 고르므로 기본 변환기를 빼고 그 자리에 compact 변환기를 넣는다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int position = converters.size();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                position = Math.min(position, i);
+            }
+        }
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(Math.min(position, converters.size()),
+                new MappingJackson2CborHttpMessageConverter(compactCborMapper()));
+    }
+
+    /**
+     * 핸들러 실행 전에 붙여 checkNotModified가 바로 쓰는 304 응답에도 포함되게 한다
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    /**
+     * null 필드 생략 + 한글 라벨 → 정수 코드 (CborMixins)
+     */
+    public static ObjectMapper compactCborMapper() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .mixIn(WalkingSuitabilityResponse.class, CborMixins.WalkingSuitabilityResponseMixin.class)
+                .mixIn(AirQualityResponse.class, CborMixins.AirQualityResponseMixin.class)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.walkingdog.backend.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import com.walkingdog.backend.service.WalkingStatus;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CBOR 응답 전용 Jackson mixin
+ *
+ * 응답마다 반복되는 한글 라벨을 작은 정수 코드로 바꿔 쓴다 (JSON 응답은 그대로).
+ * - status: WalkingStatus 코드 (1 좋음, 2 보통, 3 나쁨, 4 매우나쁨)
+ * - skyCondition: 기상청 SKY 코드 (1 맑음, 3 구름많음, 4 흐림)
+ * - precipitation: 기상청 PTY 코드 (0 없음, 1 비, 2 비/눈, 3 눈, 4 소나기)
+ * - khaiGrade: 통합대기환경지수 등급 (1~4, 값 없음 "-"은 0)
+ * 모르는 라벨은 문자열 그대로 쓴다.
+ */
+final class CborMixins {
+
+    private CborMixins() {
+    }
+
+    abstract static class WalkingSuitabilityResponseMixin {
+        @JsonSerialize(using = StatusCodeSerializer.class)
+        abstract String getStatus();
+
+        // status 코드와 같은 정보
+        @JsonIgnore
+        abstract String getStatusCode();
+
+        @JsonSerialize(using = SkyCodeSerializer.class)
+        abstract String getSkyCondition();
+
+        @JsonSerialize(using = PrecipitationCodeSerializer.class)
+        abstract String getPrecipitation();
+    }
+
+    abstract static class AirQualityResponseMixin {
+        @JsonSerialize(using = KhaiGradeSerializer.class)
+        abstract String getKhaiGrade();
+    }
+
+    /**
+     * 라벨 → 코드 (표에 없으면 원래 문자열)
+     */
+    abstract static class LabelCodeSerializer extends StdSerializer<String> {
+
+        private final Map<String, Integer> codes;
+
+        LabelCodeSerializer(Map<String, Integer> codes) {
+            super(String.class);
+            this.codes = codes;
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Integer code = codes.get(value);
+            if (code != null) {
+                gen.writeNumber(code);
+            } else {
+                gen.writeString(value);
+            }
+        }
+    }
+
+    static final class StatusCodeSerializer extends LabelCodeSerializer {
+        StatusCodeSerializer() {
+            super(statusCodes());
+        }
+    }
+
+    static final class SkyCodeSerializer extends LabelCodeSerializer {
+        SkyCodeSerializer() {
+            super(skyCodes());
+        }
+    }
+
+    static final class PrecipitationCodeSerializer extends LabelCodeSerializer {
+        PrecipitationCodeSerializer() {
+            super(precipitationCodes());
+        }
+    }
+
+    static final class KhaiGradeSerializer extends LabelCodeSerializer {
+        KhaiGradeSerializer() {
+            super(Map.of("-", 0, "1", 1, "2", 2, "3", 3, "4", 4));
+        }
+    }
+
+    private static Map<String, Integer> statusCodes() {
+        Map<String, Integer> codes = new HashMap<>();
+        for (WalkingStatus status : WalkingStatus.values()) {
+            codes.put(status.getLabel(), status.getCode());
+        }
+        return codes;
+    }
+
+    private static Map<String, Integer> skyCodes() {
+        Map<String, Integer> codes = new HashMap<>();
+        for (SkyCode sky : SkyCode.values()) {
+            codes.put(sky.getLabel(), sky.getCode());
+        }
+        return codes;
+    }
+
+    private static Map<String, Integer> precipitationCodes() {
+        Map<String, Integer> codes = new HashMap<>();
+        for (PrecipitationType type : PrecipitationType.values()) {
+            codes.put(type.getLabel(), type.getCode());
+        }
+        return codes;
+    }
+}
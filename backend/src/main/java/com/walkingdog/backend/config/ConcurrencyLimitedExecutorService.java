@@ -0,0 +1,77 @@
+package com.walkingdog.backend.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 만들되 동시에 실행되는 작업 수는 Semaphore로 제한하는 실행기
+ *
+ * 고정 크기 플랫폼 스레드 풀과 같은 동시 호출 상한을 유지하면서,
+ * 허가를 기다리는 작업은 (큐가 아니라) 가상 스레드 위에서 값싸게 대기한다.
+ */
+class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    ConcurrencyLimitedExecutorService(ExecutorService delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // 허가 대기 중 인터럽트(shutdownNow 등): 작업을 버리면 그 결과를 기다리는 쪽이 영원히 멈춘다
+                Thread.currentThread().interrupt();
+                if (command instanceof Future<?> future
+                        && !(command instanceof CompletableFuture.AsynchronousCompletionTask)) {
+                    future.cancel(false);
+                } else {
+                    // supplyAsync 작업은 cancel해도 결과 CompletableFuture가 완료되지 않으므로
+                    // 허가 없이 (인터럽트 상태로) 실행해 스스로 완료하게 한다
+                    command.run();
+                }
+                return;
+            }
+            try {
+                command.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.walkingdog.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -8,6 +9,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -18,11 +22,24 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * actuator는 health만 공개하고, 나머지(metrics 등)는 management.server.port로 분리한 내부 포트로 들어온 요청만 허용
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:#{null}}") Integer managementPort) throws Exception {
+        // 같은 포트로 두면 분리되지 않으므로 열지 않는다
+        RequestMatcher managementPortRequest = request -> managementPort != null
+                && managementPort != serverPort
+                && request.getLocalPort() == managementPort;
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(antMatcher("/actuator/health"), antMatcher("/actuator/health/**")).permitAll()
+                .requestMatchers(managementPortRequest).permitAll()
+                .requestMatchers(antMatcher("/actuator/**")).denyAll()
                 .anyRequest().permitAll()
             )
             .sessionManagement(session -> session
@@ -0,0 +1,155 @@
+package com.walkingdog.backend.config;
+
+import com.walkingdog.backend.client.UpstreamMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공공데이터 API(에어코리아, 기상청) 호출 공용 설정
+ */
+@Configuration
+public class UpstreamConfig {
+
+    /**
+     * 외부 API 동시 호출 수를 제한하는 실행기
+     * 페이지/시도 단위 병렬 조회가 모두 이 풀을 공유한다.
+     * spring.threads.virtual.enabled=true면 작업마다 가상 스레드를 쓰고 동시 실행 수만 제한한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService upstreamExecutor(@Value("${public.data.max-concurrency:16}") int maxConcurrency,
+                                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return new ConcurrencyLimitedExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upstream-", 0).factory()),
+                    maxConcurrency);
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "upstream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청 하나 안에서 대기질/날씨 조회를 동시에 돌리는 실행기 (가상 스레드)
+     * 조회 대부분이 외부 API 대기이므로 요청마다 스레드를 새로 만들어도 부담이 없다.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService fanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+    }
+
+    /**
+     * 외부 API keep-alive 커넥션 풀
+     * 공공데이터 API는 모두 apis.data.go.kr 한 호스트라 호스트당 상한이 실질적인 동시 연결 수가 된다.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(
+            @Value("${public.data.http.max-total:50}") int maxTotal,
+            @Value("${public.data.http.max-per-route:20}") int maxPerRoute,
+            @Value("${public.data.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${public.data.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${public.data.http.time-to-live-seconds:300}") long timeToLiveSeconds,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        // httpcomponents.httpclient.pool.* (leased / available / pending / max)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "upstream").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            PoolingHttpClientConnectionManager upstreamConnectionManager,
+            @Value("${public.data.http.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${public.data.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${public.data.http.idle-evict-seconds:30}") long idleEvictSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 무한정 기다리지 않도록
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * 공공데이터 API 공용 RestTemplate (커넥션 풀 + 타임아웃 + 엔드포인트별 지연 메트릭)
+     */
+    @Bean
+    public RestTemplate upstreamRestTemplate(CloseableHttpClient upstreamHttpClient, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(upstreamHttpClient));
+        restTemplate.getInterceptors().add(new UpstreamMetricsInterceptor(meterRegistry));
+        return restTemplate;
+    }
+
+    /**
+     * 공공데이터 API 논블로킹 클라이언트 (Reactor Netty)
+     * 소수의 이벤트 루프 스레드로 많은 동시 요청을 처리하며, 풀/타임아웃 설정은 RestTemplate과 같은 값을 쓴다.
+     */
+    @Bean
+    public WebClient upstreamWebClient(
+            @Value("${public.data.http.max-per-route:20}") int maxConnections,
+            @Value("${public.data.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${public.data.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${public.data.http.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${public.data.http.idle-evict-seconds:30}") long idleEvictSeconds,
+            MeterRegistry meterRegistry) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(poolAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(idleEvictSeconds))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter((request, next) -> {
+                    long startedAt = System.nanoTime();
+                    return next.exchange(request)
+                            .doOnSuccess(response -> UpstreamMetricsInterceptor.record(meterRegistry, request.url(),
+                                    String.valueOf(response.statusCode().value()), System.nanoTime() - startedAt))
+                            .doOnError(e -> UpstreamMetricsInterceptor.record(meterRegistry, request.url(),
+                                    "IO_ERROR", System.nanoTime() - startedAt));
+                })
+                .build();
+    }
+}
@@ -1,24 +1,156 @@
 package com.walkingdog.backend.controller;
 
 import com.walkingdog.backend.dto.AirQualityResponse;
+import com.walkingdog.backend.dto.ObservationHistoryResponse;
+import com.walkingdog.backend.service.AirQualityRaster;
+import com.walkingdog.backend.service.AirQualityRasterService;
 import com.walkingdog.backend.service.AirQualityService;
+import com.walkingdog.backend.service.AirQualitySnapshot;
+import com.walkingdog.backend.service.AirQualitySnapshotService;
+import com.walkingdog.backend.service.AirQualityTileService;
+import com.walkingdog.backend.service.ObservationHistoryService;
+import com.walkingdog.backend.service.ObservationVersion;
+import com.walkingdog.backend.service.ObservationVersionResolver;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/air")
 public class AirQualityController {
 
     private final AirQualityService service;
+    private final AirQualitySnapshotService snapshotService;
+    private final AirQualityRasterService rasterService;
+    private final AirQualityTileService tileService;
+    private final ObservationVersionResolver observationVersionResolver;
+    private final ObservationHistoryService historyService;
 
-    public AirQualityController(AirQualityService service) {
+    public AirQualityController(AirQualityService service, AirQualitySnapshotService snapshotService,
+                                AirQualityRasterService rasterService, AirQualityTileService tileService,
+                                ObservationVersionResolver observationVersionResolver,
+                                ObservationHistoryService historyService) {
         this.service = service;
+        this.snapshotService = snapshotService;
+        this.rasterService = rasterService;
+        this.tileService = tileService;
+        this.observationVersionResolver = observationVersionResolver;
+        this.historyService = historyService;
+    }
+
+    /**
+     * 산책 적합도 히트맵 타일 (카카오맵 오버레이용, 웹 메르카토르 z/x/y 256px PNG)
+     * 전국 PM 격자에서 그리며, 같은 측정시각(dataTime) 동안은 캐시된 타일을 돌려준다.
+     */
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.png", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        try {
+            AirQualityTileService.Tile tile = tileService.getTile(z, x, y);
+            if (tile.dataTime() == null) {
+                // 격자 생성 전: 투명 타일, 브라우저가 보관하지 않도록
+                return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(tile.png());
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                    .header("X-Data-Time", tile.dataTime())
+                    .body(tile.png());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping
-    public AirQualityResponse getAir(
+    public ResponseEntity<AirQualityResponse> getAir(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            WebRequest webRequest
+    ) {
+        // 측정시각(dataTime)이 그대로면 서비스 호출 없이 304
+        ObservationVersion version = observationVersionResolver.forAirQuality();
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        AirQualityResponse response = service.getAirQualityByLocation(lat, lon);
+        CacheControl cacheControl = version == null || AirQualityService.MOCK_STATION_NAME.equals(response.getStationName())
+                ? CacheControl.noStore()
+                : CacheControl.maxAge(version.maxAge());
+        return ResponseEntity.ok().cacheControl(cacheControl).body(response);
+    }
+
+    /**
+     * 시간별 대기질·날씨 이력 (최근접 측정소 + 기상청 격자), 저장된 이력만 읽고 외부 호출은 하지 않는다.
+     * from/to는 KST(yyyy-MM-ddTHH:mm), 생략하면 to = 현재, from = to - hours
+     * 예) 어제 같은 시각: from=to=어제 날짜와 현재 시각
+     */
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(
             @RequestParam double lat,
-            @RequestParam double lon
+            @RequestParam double lon,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "24") int hours
     ) {
-        return service.getAirQualityByLocation(lat, lon);
+        if (!historyService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(errorBody("관측 이력 저장소가 꺼져 있습니다."));
+        }
+        if (hours < 0) {
+            return ResponseEntity.badRequest().body(errorBody("hours는 0 이상이어야 합니다."));
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime start = from != null ? from : end.minusHours(hours);
+        try {
+            ObservationHistoryResponse response = historyService.getHistory(lat, lon, start, end);
+            // 매시 새 행이 붙으므로 짧게만 캐시
+            return ResponseEntity.ok().cacheControl(CacheControl.maxAge(Duration.ofMinutes(5))).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(errorBody(e.getMessage()));
+        }
+    }
+
+    private static Map<String, Object> errorBody(String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        return body;
+    }
+
+    /**
+     * 대기질 스냅샷 상태 (측정시각, 적재 후 경과 시간, 전국 격자 크기/생성 시간)
+     */
+    @GetMapping("/snapshot")
+    public Map<String, Object> getSnapshotStatus() {
+        AirQualitySnapshot snapshot = snapshotService.getSnapshot();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("dataTime", snapshot.getDataTime());
+        response.put("loadedAt", snapshot.isEmpty() ? null : snapshot.getLoadedAt().toString());
+        response.put("ageSeconds", snapshot.isEmpty() ? null : snapshot.getAge().toSeconds());
+        response.put("sidoCount", snapshot.getSidoNames().size());
+        response.put("stationCount", snapshot.getRowCount());
+
+        AirQualityRaster raster = rasterService.getRaster();
+        Map<String, Object> rasterStatus = new HashMap<>();
+        rasterStatus.put("dataTime", raster.isEmpty() ? null : raster.getDataTime());
+        rasterStatus.put("current", raster.isBuiltFrom(snapshot));
+        rasterStatus.put("mode", raster.getMode().name());
+        rasterStatus.put("resolutionDeg", raster.getResolutionDeg());
+        rasterStatus.put("rows", raster.getRows());
+        rasterStatus.put("cols", raster.getCols());
+        rasterStatus.put("stationCount", raster.getStationCount());
+        rasterStatus.put("memoryBytes", raster.getMemoryBytes());
+        rasterStatus.put("buildMillis", raster.getBuildMillis());
+        response.put("raster", rasterStatus);
+        return response;
     }
-}
\ No newline at end of file
+}
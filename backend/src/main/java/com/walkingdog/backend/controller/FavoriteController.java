@@ -2,6 +2,7 @@ package com.walkingdog.backend.controller;
 
 import com.walkingdog.backend.dto.FavoriteRequest;
 import com.walkingdog.backend.dto.FavoriteResponse;
+import com.walkingdog.backend.dto.FavoriteSuitabilityResponse;
 import com.walkingdog.backend.entity.User;
 import com.walkingdog.backend.service.FavoriteService;
 import jakarta.servlet.http.HttpSession;
@@ -89,6 +90,27 @@ public class FavoriteController {
         }
     }
 
+    /**
+     * 찜 목록 + 위치별 현재 대기질 / 날씨 / 산책 적합도 (한 번의 호출로)
+     */
+    @GetMapping("/me/suitability")
+    public ResponseEntity<Map<String, Object>> getMyFavoritesSuitability(HttpSession session) {
+        try {
+            Long userId = getUserId(session);
+            List<FavoriteSuitabilityResponse> favorites = favoriteService.getUserFavoritesWithSuitability(userId);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("favorites", favorites);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     @GetMapping("/check")
     public ResponseEntity<Map<String, Object>> checkFavorite(
             @RequestParam Double latitude,
@@ -1,13 +1,23 @@
 package com.walkingdog.backend.controller;
 
+import com.walkingdog.backend.dto.SuitabilityBatchRequest;
+import com.walkingdog.backend.dto.SuitabilityBatchResponse;
 import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import com.walkingdog.backend.service.ObservationVersion;
+import com.walkingdog.backend.service.ObservationVersionResolver;
+import com.walkingdog.backend.service.SuitabilitySubscriptionService;
 import com.walkingdog.backend.service.WalkingSuitabilityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api")
@@ -19,15 +29,29 @@ public class WalkingController {
     @Autowired
     private WalkingSuitabilityService walkingSuitabilityService;
 
+    @Autowired
+    private SuitabilitySubscriptionService subscriptionService;
+
+    @Autowired
+    private ObservationVersionResolver observationVersionResolver;
+
     @GetMapping("/walking/suitability")
     public ResponseEntity<?> getWalkingSuitability(
             @RequestParam double lat,
             @RequestParam double lon,
-            @RequestParam(required = false) String address) {
+            @RequestParam(required = false) String address,
+            WebRequest webRequest) {
+        // 관측 자료(dataTime / base_time)가 그대로면 서비스 호출 없이 304
+        ObservationVersion version = observationVersionResolver.forSuitability();
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
         try {
             logger.info("산책 적합도 조회 요청: lat={}, lon={}, address={}", lat, lon, address);
             WalkingSuitabilityResponse response = walkingSuitabilityService.calculateSuitability(lat, lon, address);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl(version, response))
+                    .body(response);
         } catch (Exception e) {
             logger.error("산책 적합도 조회 실패: lat={}, lon={}", lat, lon, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -35,6 +59,80 @@ public class WalkingController {
         }
     }
 
+    /**
+     * 논블로킹 산책 적합도 조회 (응답 형식은 /walking/suitability와 같음)
+     * 외부 API를 기다리는 동안 서블릿 스레드를 반환하고, 클라이언트가 연결을 끊으면 조회를 취소한다.
+     */
+    @GetMapping("/walking/suitability/reactive")
+    public Mono<ResponseEntity<WalkingSuitabilityResponse>> getWalkingSuitabilityReactive(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) String address,
+            WebRequest webRequest) {
+        ObservationVersion version = observationVersionResolver.forSuitability();
+        if (version != null && webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        logger.info("산책 적합도 조회 요청 (reactive): lat={}, lon={}, address={}", lat, lon, address);
+        return walkingSuitabilityService.calculateSuitabilityReactive(lat, lon, address)
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(cacheControl(version, response))
+                        .body(response))
+                .doOnCancel(() -> logger.info("산책 적합도 조회 취소 (클라이언트 연결 종료): lat={}, lon={}", lat, lon));
+    }
+
+    /**
+     * 여러 위치 산책 적합도 일괄 조회
+     * 본문: {"locations": [{"lat": 37.5, "lon": 127.0, "address": "..."}, ...]}
+     * 같은 시도 / 기상청 격자는 한 번만 조회하고, 항목별 실패는 해당 항목의 error로 반환한다.
+     */
+    @PostMapping("/walking/suitability/batch")
+    public ResponseEntity<?> getWalkingSuitabilityBatch(@RequestBody SuitabilityBatchRequest request) {
+        if (request == null || request.getLocations() == null || request.getLocations().isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("locations가 비어 있습니다."));
+        }
+        try {
+            logger.info("산책 적합도 일괄 조회 요청: {}건", request.getLocations().size());
+            SuitabilityBatchResponse response =
+                    walkingSuitabilityService.calculateSuitabilityBatch(request.getLocations());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("산책 적합도 일괄 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("산책 적합도 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 산책 적합도 변경 구독 (Server-Sent Events)
+     * 연결 직후 현재 값을 보내고, 이후에는 대기질 갱신으로 등급이나 PM 값이 바뀔 때만 "suitability" 이벤트를 보낸다.
+     */
+    @GetMapping(value = "/walking/suitability/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeWalkingSuitability(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) String address) {
+        try {
+            logger.info("산책 적합도 구독 요청: lat={}, lon={}, address={}", lat, lon, address);
+            return ResponseEntity.ok(subscriptionService.subscribe(lat, lon, address));
+        } catch (IllegalStateException e) {
+            logger.warn("산책 적합도 구독 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 다음 관측 자료가 나올 때까지 캐시 허용, 기본값으로 채운 응답(degraded)은 캐시하지 않음
+     */
+    private static CacheControl cacheControl(ObservationVersion version, WalkingSuitabilityResponse response) {
+        if (version == null || response.isAirQualityDegraded() || response.isWeatherDegraded()) {
+            return CacheControl.noStore();
+        }
+        return CacheControl.maxAge(version.maxAge());
+    }
+
     private static class ErrorResponse {
         private String error;
         
@@ -0,0 +1,15 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AirHistoryPoint {
+    private String dataTime;  // 측정시각 (yyyy-MM-dd HH:mm, KST)
+    private Integer pm10Value;  // 점검 중 등으로 값이 없으면 null
+    private Integer pm25Value;
+    private Integer khaiGrade;  // 통합대기환경지수 등급 (1~4), 없으면 null
+}
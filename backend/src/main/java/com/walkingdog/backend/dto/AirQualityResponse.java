@@ -8,6 +8,8 @@ public class AirQualityResponse {
     private String stationName;  // 측정소 이름
     private String khaiGrade;
     private String dataTime;
+    private boolean interpolated;  // 격자 보간값이면 true (khaiGrade는 null, 측정소명/측정시각은 가장 가까운 측정소)
+    private Integer interpolatedGrade;  // 보간한 PM10/PM2.5 기준 등급 (1~4), 보간값이 아니면 null
 
     public int getPm10Value() {
         return pm10Value;
@@ -56,5 +58,21 @@ public class AirQualityResponse {
     public void setDataTime(String dataTime) {
         this.dataTime = dataTime;
     }
+
+    public boolean isInterpolated() {
+        return interpolated;
+    }
+
+    public void setInterpolated(boolean interpolated) {
+        this.interpolated = interpolated;
+    }
+
+    public Integer getInterpolatedGrade() {
+        return interpolatedGrade;
+    }
+
+    public void setInterpolatedGrade(Integer interpolatedGrade) {
+        this.interpolatedGrade = interpolatedGrade;
+    }
 }
 
@@ -0,0 +1,16 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FavoriteSuitabilityResponse {
+    private FavoriteResponse favorite;
+    private WalkingSuitabilityResponse suitability;  // 계산에 실패한 찜 위치는 null
+    private String error;
+}
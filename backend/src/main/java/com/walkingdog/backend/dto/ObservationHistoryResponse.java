@@ -0,0 +1,21 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ObservationHistoryResponse {
+    private String stationName;  // 최근접 측정소, 레지스트리가 비어 있으면 null
+    private String sidoName;
+    private int nx;  // 기상청 격자
+    private int ny;
+    private String from;  // 조회 구간 (yyyy-MM-dd HH:mm, KST, 양 끝 포함)
+    private String to;
+    private List<AirHistoryPoint> air;  // 시각 순서
+    private List<WeatherHistoryPoint> weather;
+}
@@ -0,0 +1,15 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuitabilityBatchItem {
+    private int index;  // 요청 locations에서의 위치
+    private boolean success;
+    private String error;  // 실패한 항목만
+    private WalkingSuitabilityResponse result;  // 성공한 항목만
+}
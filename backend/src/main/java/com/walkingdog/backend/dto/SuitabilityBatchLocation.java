@@ -0,0 +1,14 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuitabilityBatchLocation {
+    private Double lat;
+    private Double lon;
+    private String address;  // 카카오맵 주소 (선택사항)
+}
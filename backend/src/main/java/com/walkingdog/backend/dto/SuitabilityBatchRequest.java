@@ -0,0 +1,14 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuitabilityBatchRequest {
+    private List<SuitabilityBatchLocation> locations;
+}
@@ -0,0 +1,18 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuitabilityBatchResponse {
+    private List<SuitabilityBatchItem> results;  // 요청 순서와 같음
+    private int requested;
+    private int failed;
+    private int stationCount;  // 서로 다른 측정소 수
+    private int gridCellCount;  // 서로 다른 기상청 격자 수 (= 날씨 조회 횟수)
+}
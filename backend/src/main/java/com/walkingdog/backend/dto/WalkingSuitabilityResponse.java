@@ -18,6 +18,8 @@ public class WalkingSuitabilityResponse {
     private String location;  // 사용자가 검색하거나 현재 위치 (주소)
     private String stationName;  // 측정소 이름
     private String message;
+    private boolean airQualityDegraded;  // 대기질을 기한 내에 받지 못해 기본값 사용
+    private boolean weatherDegraded;  // 날씨를 기한 내에 받지 못해 기본값 사용
 }
 
 
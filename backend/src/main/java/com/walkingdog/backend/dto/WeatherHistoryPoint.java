@@ -0,0 +1,17 @@
+package com.walkingdog.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeatherHistoryPoint {
+    private String baseTime;  // 기상청 발표시각 (yyyy-MM-dd HH:mm, KST)
+    private Double temperature;  // 기온(℃), 없으면 null
+    private Integer skyCode;  // 하늘상태 코드, 없으면 null
+    private String skyCondition;
+    private Integer precipitationCode;  // 강수형태 코드, 없으면 null
+    private String precipitation;
+}
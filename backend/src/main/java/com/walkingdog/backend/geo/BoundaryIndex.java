@@ -0,0 +1,173 @@
+package com.walkingdog.backend.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행정구역 경계 폴리곤에 대한 셀 격자 인덱스 (불변)
+ *
+ * 전체 범위를 일정 간격(도)의 격자로 나누고, 각 셀에 bbox가 겹치는 폴리곤 목록을 미리 넣어 둔다.
+ * 조회 시에는 해당 셀의 후보만 bbox → 정확한 point-in-polygon(even-odd) 순으로 검사한다.
+ * 링은 [x0, y0, x1, y1, ...] (경도, 위도) 평면 배열로 보관한다.
+ */
+public final class BoundaryIndex {
+
+    private final String[] partNames;      // 폴리곤(파트) → 지역명
+    private final double[][][] partRings;  // 파트 → 링(외곽 + 구멍) → xy 배열
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+
+    private final double originX;
+    private final double originY;
+    private final double cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[][] cells;           // 셀 → 후보 파트 인덱스
+
+    private BoundaryIndex(List<String> names, List<double[][]> rings, double cellSize) {
+        int n = names.size();
+        this.partNames = names.toArray(new String[0]);
+        this.partRings = rings.toArray(new double[0][][]);
+        this.minX = new double[n];
+        this.minY = new double[n];
+        this.maxX = new double[n];
+        this.maxY = new double[n];
+
+        double gMinX = Double.POSITIVE_INFINITY, gMinY = Double.POSITIVE_INFINITY;
+        double gMaxX = Double.NEGATIVE_INFINITY, gMaxY = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < n; p++) {
+            double pMinX = Double.POSITIVE_INFINITY, pMinY = Double.POSITIVE_INFINITY;
+            double pMaxX = Double.NEGATIVE_INFINITY, pMaxY = Double.NEGATIVE_INFINITY;
+            for (double[] ring : partRings[p]) {
+                for (int i = 0; i + 1 < ring.length; i += 2) {
+                    pMinX = Math.min(pMinX, ring[i]);
+                    pMaxX = Math.max(pMaxX, ring[i]);
+                    pMinY = Math.min(pMinY, ring[i + 1]);
+                    pMaxY = Math.max(pMaxY, ring[i + 1]);
+                }
+            }
+            minX[p] = pMinX;
+            minY[p] = pMinY;
+            maxX[p] = pMaxX;
+            maxY[p] = pMaxY;
+            gMinX = Math.min(gMinX, pMinX);
+            gMinY = Math.min(gMinY, pMinY);
+            gMaxX = Math.max(gMaxX, pMaxX);
+            gMaxY = Math.max(gMaxY, pMaxY);
+        }
+
+        this.cellSize = cellSize;
+        this.originX = n == 0 ? 0 : gMinX;
+        this.originY = n == 0 ? 0 : gMinY;
+        this.cols = n == 0 ? 0 : (int) Math.floor((gMaxX - gMinX) / cellSize) + 1;
+        this.rows = n == 0 ? 0 : (int) Math.floor((gMaxY - gMinY) / cellSize) + 1;
+
+        // 셀별 후보 목록 (bbox가 겹치는 파트)
+        int[] counts = new int[cols * rows];
+        for (int p = 0; p < n; p++) {
+            for (int r = row(minY[p]); r <= row(maxY[p]); r++) {
+                for (int c = col(minX[p]); c <= col(maxX[p]); c++) {
+                    counts[r * cols + c]++;
+                }
+            }
+        }
+        this.cells = new int[cols * rows][];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int p = 0; p < n; p++) {
+            for (int r = row(minY[p]); r <= row(maxY[p]); r++) {
+                for (int c = col(minX[p]); c <= col(maxX[p]); c++) {
+                    int cell = r * cols + c;
+                    cells[cell][counts[cell]++] = p;
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private int col(double x) {
+        return Math.min(cols - 1, Math.max(0, (int) ((x - originX) / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / cellSize)));
+    }
+
+    /**
+     * 점이 속한 지역명, 어느 폴리곤에도 속하지 않으면 null
+     */
+    public String locate(double lat, double lon) {
+        if (cells.length == 0) {
+            return null;
+        }
+        double cx = (lon - originX) / cellSize;
+        double cy = (lat - originY) / cellSize;
+        if (cx < 0 || cy < 0 || cx >= cols || cy >= rows) {
+            return null;
+        }
+        for (int p : cells[(int) cy * cols + (int) cx]) {
+            if (lon < minX[p] || lon > maxX[p] || lat < minY[p] || lat > maxY[p]) {
+                continue;
+            }
+            if (contains(partRings[p], lon, lat)) {
+                return partNames[p];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * even-odd 규칙 광선 교차 검사 (구멍 링도 같은 규칙으로 처리된다)
+     */
+    private static boolean contains(double[][] rings, double x, double y) {
+        boolean inside = false;
+        for (double[] ring : rings) {
+            int n = ring.length / 2;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                double xi = ring[2 * i], yi = ring[2 * i + 1];
+                double xj = ring[2 * j], yj = ring[2 * j + 1];
+                if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    public int size() {
+        return partNames.length;
+    }
+
+    public boolean isEmpty() {
+        return partNames.length == 0;
+    }
+
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<double[][]> rings = new ArrayList<>();
+
+        /**
+         * 폴리곤 하나 추가 (첫 링은 외곽, 나머지는 구멍)
+         * MultiPolygon은 파트마다 같은 이름으로 여러 번 추가한다.
+         */
+        public Builder add(String name, List<double[]> polygonRings) {
+            names.add(name);
+            rings.add(polygonRings.toArray(new double[0][]));
+            return this;
+        }
+
+        public BoundaryIndex build(double cellSizeDeg) {
+            if (cellSizeDeg <= 0) {
+                throw new IllegalArgumentException("셀 크기는 0보다 커야 합니다: " + cellSizeDeg);
+            }
+            return new BoundaryIndex(names, rings, cellSizeDeg);
+        }
+    }
+}
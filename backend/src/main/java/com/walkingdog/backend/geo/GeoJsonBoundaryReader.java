@@ -0,0 +1,59 @@
+package com.walkingdog.backend.geo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GeoJSON FeatureCollection (Polygon / MultiPolygon, WGS84 경위도) → BoundaryIndex
+ */
+public class GeoJsonBoundaryReader {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param nameProperty 지역명이 들어 있는 properties 키 (예: "name", "CTP_KOR_NM")
+     */
+    public BoundaryIndex read(InputStream in, String nameProperty, double cellSizeDeg) throws IOException {
+        BoundaryIndex.Builder builder = BoundaryIndex.builder();
+
+        for (JsonNode feature : objectMapper.readTree(in).path("features")) {
+            String name = feature.path("properties").path(nameProperty).asText("");
+            JsonNode geometry = feature.path("geometry");
+            JsonNode coordinates = geometry.path("coordinates");
+
+            switch (geometry.path("type").asText("")) {
+                case "Polygon":
+                    builder.add(name, toRings(coordinates));
+                    break;
+                case "MultiPolygon":
+                    for (JsonNode polygon : coordinates) {
+                        builder.add(name, toRings(polygon));
+                    }
+                    break;
+                default:
+                    // 점/선 형상은 경계로 쓰지 않는다
+                    break;
+            }
+        }
+        return builder.build(cellSizeDeg);
+    }
+
+    private List<double[]> toRings(JsonNode polygon) {
+        List<double[]> rings = new ArrayList<>();
+        for (JsonNode ring : polygon) {
+            double[] xy = new double[ring.size() * 2];
+            int i = 0;
+            for (JsonNode point : ring) {
+                xy[i++] = point.get(0).asDouble();
+                xy[i++] = point.get(1).asDouble();
+            }
+            rings.add(xy);
+        }
+        return rings;
+    }
+}
@@ -0,0 +1,181 @@
+package com.walkingdog.backend.geo;
+
+import java.util.Arrays;
+
+/**
+ * 위경도 점 집합에 대한 2차원 k-d 트리 (불변)
+ *
+ * 한반도 범위에서는 경도에 기준 위도의 cos를 곱한 평면 좌표로 근사해도 거리 순서가 거의 같으므로
+ * 탐색은 평면 제곱거리로 하고, 실제 거리는 호출 측에서 Haversine으로 계산한다.
+ * 트리는 배열 하나에 중앙값 분할 순서로 저장하며 노드 객체를 만들지 않는다.
+ */
+public final class KdTree {
+
+    private final double cosRefLat;
+    private final double[] xs;    // 트리 순서의 평면 x (경도 × cos 기준위도)
+    private final double[] ys;    // 트리 순서의 평면 y (위도)
+    private final int[] ids;      // 트리 순서 → 입력 인덱스
+
+    /**
+     * @param lats 위도 배열
+     * @param lons 경도 배열 (lats와 길이 동일, 인덱스가 곧 결과 id)
+     */
+    public KdTree(double[] lats, double[] lons) {
+        if (lats.length != lons.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다.");
+        }
+        int n = lats.length;
+        double latSum = 0;
+        for (double lat : lats) {
+            latSum += lat;
+        }
+        this.cosRefLat = Math.cos(Math.toRadians(n == 0 ? 36.0 : latSum / n));
+
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+            xs[i] = lons[i] * cosRefLat;
+            ys[i] = lats[i];
+        }
+        build(0, n, 0);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth & 1);
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * [lo, hi] 구간에서 k번째 원소가 제자리에 오도록 분할 (quickselect)
+     */
+    private void select(int lo, int hi, int k, int axis) {
+        double[] keys = axis == 0 ? xs : ys;
+        while (hi > lo) {
+            double pivot = keys[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        double tx = xs[a]; xs[a] = xs[b]; xs[b] = tx;
+        double ty = ys[a]; ys[a] = ys[b]; ys[b] = ty;
+        int tid = ids[a]; ids[a] = ids[b]; ids[b] = tid;
+    }
+
+    /**
+     * 가장 가까운 점의 입력 인덱스, 비어 있으면 -1
+     */
+    public int nearest(double lat, double lon) {
+        int[] result = nearest(lat, lon, 1);
+        return result.length == 0 ? -1 : result[0];
+    }
+
+    /**
+     * 가까운 순서대로 최대 k개 점의 입력 인덱스
+     */
+    public int[] nearest(double lat, double lon, int k) {
+        int count = Math.min(k, ids.length);
+        if (count <= 0) {
+            return new int[0];
+        }
+        Candidates candidates = new Candidates(count);
+        search(0, ids.length, 0, lon * cosRefLat, lat, candidates);
+
+        int[] result = new int[candidates.size];
+        for (int i = 0; i < candidates.size; i++) {
+            result[i] = ids[candidates.slots[i]];
+        }
+        return result;
+    }
+
+    private void search(int lo, int hi, int depth, double qx, double qy, Candidates candidates) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = qx - xs[mid];
+        double dy = qy - ys[mid];
+        candidates.offer(mid, dx * dx + dy * dy);
+
+        double diff = (depth & 1) == 0 ? dx : dy;
+        boolean leftFirst = diff < 0;
+        if (leftFirst) {
+            search(lo, mid, depth + 1, qx, qy, candidates);
+        } else {
+            search(mid + 1, hi, depth + 1, qx, qy, candidates);
+        }
+        // 분할면까지의 거리가 현재 k번째 후보보다 가까울 때만 반대편 탐색
+        if (!candidates.isFull() || diff * diff < candidates.worst()) {
+            if (leftFirst) {
+                search(mid + 1, hi, depth + 1, qx, qy, candidates);
+            } else {
+                search(lo, mid, depth + 1, qx, qy, candidates);
+            }
+        }
+    }
+
+    /**
+     * 거리 오름차순으로 유지하는 고정 크기 후보 목록 (k가 작으므로 삽입 정렬)
+     */
+    private static final class Candidates {
+        final int[] slots;
+        final double[] dist;
+        int size;
+
+        Candidates(int k) {
+            slots = new int[k];
+            dist = new double[k];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        }
+
+        boolean isFull() {
+            return size == slots.length;
+        }
+
+        double worst() {
+            return dist[slots.length - 1];
+        }
+
+        void offer(int slot, double d) {
+            if (isFull() && d >= worst()) {
+                return;
+            }
+            int i = isFull() ? slots.length - 1 : size++;
+            while (i > 0 && dist[i - 1] > d) {
+                dist[i] = dist[i - 1];
+                slots[i] = slots[i - 1];
+                i--;
+            }
+            dist[i] = d;
+            slots[i] = slot;
+        }
+    }
+}
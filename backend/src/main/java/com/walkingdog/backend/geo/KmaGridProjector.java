@@ -0,0 +1,145 @@
+package com.walkingdog.backend.geo;
+
+/**
+ * 기상청 동네예보 격자 (Lambert Conformal Conic, 5km) ↔ 위경도 변환
+ *
+ * 투영 상수(sn, sf, ro)는 기준 위경도/표준위도로만 정해지므로 클래스 로드 시 한 번 계산하고,
+ * 점마다 위도에 대한 tan/pow와 경도 차의 sin/cos만 계산한다.
+ * 격자 번호는 기상청 API와 같은 1부터 시작하는 (nx, ny)이다 (예: 서울 시청 60, 127).
+ */
+public final class KmaGridProjector {
+
+    private static final double RE = 6371.00877;   // 지구 반경(km)
+    private static final double GRID = 5.0;        // 격자 간격(km)
+    private static final double SLAT1 = 30.0;      // 투영 위도1(degree)
+    private static final double SLAT2 = 60.0;      // 투영 위도2(degree)
+    private static final double OLON = 126.0;      // 기준점 경도(degree)
+    private static final double OLAT = 38.0;       // 기준점 위도(degree)
+    private static final double XO = 43;           // 기준점 X좌표(GRID)
+    private static final double YO = 136;          // 기준점 Y좌표(GRID)
+
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double RADDEG = 180.0 / Math.PI;
+    private static final double QUARTER_PI = Math.PI * 0.25;
+
+    private static final double SN;
+    private static final double INV_SN;
+    private static final double RE_SF;   // re * sf
+    private static final double RO;
+    private static final double OLON_RAD;
+
+    static {
+        double re = RE / GRID;
+        double slat1 = SLAT1 * DEGRAD;
+        double slat2 = SLAT2 * DEGRAD;
+        double olat = OLAT * DEGRAD;
+
+        double sn = Math.tan(QUARTER_PI + slat2 * 0.5) / Math.tan(QUARTER_PI + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        double sf = Math.tan(QUARTER_PI + slat1 * 0.5);
+        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+        double ro = Math.tan(QUARTER_PI + olat * 0.5);
+        ro = re * sf / Math.pow(ro, sn);
+
+        SN = sn;
+        INV_SN = 1.0 / sn;
+        RE_SF = re * sf;
+        RO = ro;
+        OLON_RAD = OLON * DEGRAD;
+    }
+
+    private KmaGridProjector() {
+    }
+
+    /**
+     * 기상청 격자 번호
+     */
+    public record GridPoint(int nx, int ny) {
+    }
+
+    /**
+     * 위경도 → 격자 번호
+     */
+    public static GridPoint toGrid(double lat, double lon) {
+        double ra = RE_SF / Math.pow(Math.tan(QUARTER_PI + lat * DEGRAD * 0.5), SN);
+        double theta = theta(lon);
+        return new GridPoint(
+                (int) (ra * Math.sin(theta) + XO + 0.5),
+                (int) (RO - ra * Math.cos(theta) + YO + 0.5));
+    }
+
+    /**
+     * 격자 번호 → 격자 중심 위경도, {lat, lon}
+     */
+    public static double[] toLatLon(int nx, int ny) {
+        double[] latLon = new double[2];
+        inverse(nx, ny, latLon);
+        return latLon;
+    }
+
+    /**
+     * 위경도 배열 → 격자 번호 배열 (배열 길이는 모두 같아야 한다)
+     */
+    public static void toGrid(double[] lats, double[] lons, int[] nxs, int[] nys) {
+        if (lats.length != lons.length || lats.length != nxs.length || lats.length != nys.length) {
+            throw new IllegalArgumentException("좌표 배열 길이가 서로 다릅니다.");
+        }
+        for (int i = 0; i < lats.length; i++) {
+            double ra = RE_SF / Math.pow(Math.tan(QUARTER_PI + lats[i] * DEGRAD * 0.5), SN);
+            double theta = theta(lons[i]);
+            nxs[i] = (int) (ra * Math.sin(theta) + XO + 0.5);
+            nys[i] = (int) (RO - ra * Math.cos(theta) + YO + 0.5);
+        }
+    }
+
+    /**
+     * 격자 번호 배열 → 격자 중심 위경도 배열 (배열 길이는 모두 같아야 한다)
+     */
+    public static void toLatLon(int[] nxs, int[] nys, double[] lats, double[] lons) {
+        if (nxs.length != nys.length || nxs.length != lats.length || nxs.length != lons.length) {
+            throw new IllegalArgumentException("좌표 배열 길이가 서로 다릅니다.");
+        }
+        double[] latLon = new double[2];
+        for (int i = 0; i < nxs.length; i++) {
+            inverse(nxs[i], nys[i], latLon);
+            lats[i] = latLon[0];
+            lons[i] = latLon[1];
+        }
+    }
+
+    /**
+     * 기준 경도와의 차 (라디안, -π ~ π로 정규화) × sn
+     */
+    private static double theta(double lon) {
+        double theta = lon * DEGRAD - OLON_RAD;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        return theta * SN;
+    }
+
+    /**
+     * 기상청 격자 변환 참고 코드의 역변환 (x, y는 격자 번호)
+     */
+    private static void inverse(double x, double y, double[] out) {
+        double xn = x - XO;
+        double yn = RO - y + YO;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) {
+            ra = -ra;
+        }
+        double alat = 2.0 * Math.atan(Math.pow(RE_SF / ra, INV_SN)) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double alon = theta * INV_SN + OLON_RAD;
+
+        out[0] = alat * RADDEG;
+        out[1] = alon * RADDEG;
+    }
+}
@@ -0,0 +1,9 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 행정구역 조회 결과
+ * @param sidoName    에어코리아 시도명 (예: "서울")
+ * @param sigunguName 시군구명 (경계 데이터가 없으면 null)
+ */
+public record AdminArea(String sidoName, String sigunguName) {
+}
@@ -0,0 +1,199 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.geo.BoundaryIndex;
+import com.walkingdog.backend.geo.GeoJsonBoundaryReader;
+import com.walkingdog.backend.util.SidoNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+/**
+ * 위경도 → 시도 / 시군구 판정
+ *
+ * 설정된 행정구역 경계(GeoJSON, WGS84)를 기동 시 한 번 읽어 셀 격자 인덱스로 만들고
+ * point-in-polygon으로 정확히 판정한다. 폴리곤 밖(해상 등)이면 bbox 근사로 대신한다.
+ *
+ * 시도 경계는 기본으로 함께 넣은 간략화 파일(geo/sido-simplified.geojson, 경계 오차 수 km)을 쓴다.
+ * 시군구 경계는 포함하지 않으므로 경로를 지정하지 않으면 시군구는 null이다.
+ * 경로를 비워 두면 경계 없이 bbox 근사만 쓴다 (기동 시 경고).
+ * 경로를 지정했는데 파일이 없거나 읽을 수 없으면 조용히 근사로 넘어가지 않고 기동을 실패시킨다.
+ */
+@Service
+public class AdminAreaResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminAreaResolver.class);
+
+    static final String BUNDLED_SIDO_PATH = "classpath:geo/sido-simplified.geojson";
+
+    private final BoundaryIndex sidoIndex;
+    private final BoundaryIndex sigunguIndex;
+
+    public AdminAreaResolver(
+            ResourceLoader resourceLoader,
+            @Value("${geo.boundary.sido-path:" + BUNDLED_SIDO_PATH + "}") String sidoPath,
+            @Value("${geo.boundary.sido-name-property:name}") String sidoNameProperty,
+            @Value("${geo.boundary.sigungu-path:}") String sigunguPath,
+            @Value("${geo.boundary.sigungu-name-property:name}") String sigunguNameProperty,
+            @Value("${geo.boundary.cell-size-deg:0.05}") double cellSizeDeg) {
+        this.sidoIndex = load(resourceLoader, "geo.boundary.sido-path", sidoPath, sidoNameProperty, cellSizeDeg);
+        this.sigunguIndex = load(resourceLoader, "geo.boundary.sigungu-path", sigunguPath, sigunguNameProperty, cellSizeDeg);
+    }
+
+    private BoundaryIndex load(ResourceLoader resourceLoader, String property, String path,
+                               String nameProperty, double cellSizeDeg) {
+        if (path == null || path.isBlank()) {
+            logger.warn("{} 미설정 → 행정구역 경계 없이 bbox 근사 사용 (경계 부근 판정이 부정확할 수 있음)", property);
+            return BoundaryIndex.builder().build(cellSizeDeg);
+        }
+        Resource resource = resourceLoader.getResource(path);
+        if (!resource.exists()) {
+            throw new IllegalStateException("행정구역 경계 파일이 없습니다: " + property + "=" + path);
+        }
+        long startedAt = System.currentTimeMillis();
+        BoundaryIndex index;
+        try (InputStream in = resource.getInputStream()) {
+            index = new GeoJsonBoundaryReader().read(in, nameProperty, cellSizeDeg);
+        } catch (Exception e) {
+            throw new IllegalStateException("행정구역 경계 파일을 읽을 수 없습니다: " + property + "=" + path, e);
+        }
+        if (index.isEmpty()) {
+            throw new IllegalStateException("행정구역 경계 파일에 폴리곤이 없습니다: " + property + "=" + path);
+        }
+        logger.info("행정구역 경계 로드: {} (폴리곤 {}개, {}ms)",
+                resource.getDescription(), index.size(), System.currentTimeMillis() - startedAt);
+        return index;
+    }
+
+    /**
+     * 시도 경계가 로드되어 point-in-polygon 판정을 쓰는지 (false면 bbox 근사만 사용)
+     */
+    public boolean hasSidoBoundaries() {
+        return !sidoIndex.isEmpty();
+    }
+
+    /**
+     * 위경도 → 에어코리아 시도명
+     */
+    public String resolveSido(double lat, double lon) {
+        String name = sidoIndex.locate(lat, lon);
+        if (name != null) {
+            String sidoName = SidoNames.normalize(name);
+            if (sidoName != null) {
+                return sidoName;
+            }
+        }
+        return resolveSidoByBoundingBox(lat, lon);
+    }
+
+    /**
+     * 위경도 → 시도 + 시군구
+     */
+    public AdminArea resolve(double lat, double lon) {
+        return new AdminArea(resolveSido(lat, lon), sigunguIndex.locate(lat, lon));
+    }
+
+    /**
+     * 위경도 → 시도명 (bbox 근사, 경계 데이터가 없거나 바다 위 등 폴리곤 밖일 때 사용)
+     */
+    private String resolveSidoByBoundingBox(double lat, double lon) {
+        // 서울: 37.4 ~ 37.7, 126.7 ~ 127.2
+        if (lat >= 37.4 && lat <= 37.7 && lon >= 126.7 && lon <= 127.2) {
+            return "서울";
+        }
+        
+        // 인천: 37.3 ~ 37.6, 126.4 ~ 126.8
+        if (lat >= 37.3 && lat <= 37.6 && lon >= 126.4 && lon <= 126.8) {
+            return "인천";
+        }
+        
+        // 경기: 37.0 ~ 38.6, 126.5 ~ 128.0 (서울/인천 제외, 성남/용인 등 포함)
+        if (lat >= 37.0 && lat <= 38.6 && lon >= 126.5 && lon <= 128.0) {
+            if (!(lat >= 37.4 && lat <= 37.7 && lon >= 126.7 && lon <= 127.2)) { // 서울 제외
+                if (!(lat >= 37.3 && lat <= 37.6 && lon >= 126.4 && lon <= 126.8)) { // 인천 제외
+                    return "경기";
+                }
+            }
+        }
+        
+        // 강원: 37.0 ~ 38.6, 127.5 ~ 129.0 (경기와 겹치지 않도록 조정)
+        if (lat >= 37.0 && lat <= 38.6 && lon >= 127.5 && lon <= 129.0) {
+            return "강원";
+        }
+        
+        // 충북: 36.0 ~ 37.5, 127.0 ~ 128.5
+        if (lat >= 36.0 && lat <= 37.5 && lon >= 127.0 && lon <= 128.5) {
+            return "충북";
+        }
+        
+        // 충남: 35.8 ~ 37.0, 125.8 ~ 127.5
+        if (lat >= 35.8 && lat <= 37.0 && lon >= 125.8 && lon <= 127.5) {
+            return "충남";
+        }
+        
+        // 세종: 36.4 ~ 36.7, 127.1 ~ 127.4
+        if (lat >= 36.4 && lat <= 36.7 && lon >= 127.1 && lon <= 127.4) {
+            return "세종";
+        }
+        
+        // 대전: 36.2 ~ 36.5, 127.2 ~ 127.6
+        if (lat >= 36.2 && lat <= 36.5 && lon >= 127.2 && lon <= 127.6) {
+            return "대전";
+        }
+        
+        // 전북: 35.3 ~ 36.2, 126.0 ~ 127.8
+        if (lat >= 35.3 && lat <= 36.2 && lon >= 126.0 && lon <= 127.8) {
+            return "전북";
+        }
+        
+        // 전남: 34.0 ~ 35.5, 125.0 ~ 127.5
+        if (lat >= 34.0 && lat <= 35.5 && lon >= 125.0 && lon <= 127.5) {
+            return "전남";
+        }
+        
+        // 광주: 35.0 ~ 35.3, 126.6 ~ 126.9
+        if (lat >= 35.0 && lat <= 35.3 && lon >= 126.6 && lon <= 126.9) {
+            return "광주";
+        }
+        
+        // 경북: 35.4 ~ 37.5, 128.0 ~ 130.0
+        if (lat >= 35.4 && lat <= 37.5 && lon >= 128.0 && lon <= 130.0) {
+            return "경북";
+        }
+        
+        // 대구: 35.7 ~ 36.0, 128.4 ~ 128.7
+        if (lat >= 35.7 && lat <= 36.0 && lon >= 128.4 && lon <= 128.7) {
+            return "대구";
+        }
+        
+        // 경남: 34.5 ~ 36.0, 127.5 ~ 129.5
+        if (lat >= 34.5 && lat <= 36.0 && lon >= 127.5 && lon <= 129.5) {
+            return "경남";
+        }
+        
+        // 부산: 35.0 ~ 35.3, 128.9 ~ 129.3
+        if (lat >= 35.0 && lat <= 35.3 && lon >= 128.9 && lon <= 129.3) {
+            return "부산";
+        }
+        
+        // 울산: 35.3 ~ 35.7, 129.1 ~ 129.5
+        if (lat >= 35.3 && lat <= 35.7 && lon >= 129.1 && lon <= 129.5) {
+            return "울산";
+        }
+        
+        // 제주: 33.0 ~ 34.0, 126.0 ~ 127.0
+        if (lat >= 33.0 && lat <= 34.0 && lon >= 126.0 && lon <= 127.0) {
+            return "제주";
+        }
+        
+        // 기본값: 위도 기반으로 추정
+        if (lat >= 37.5) return "경기";
+        if (lat >= 36.0) return "충북";
+        if (lat >= 35.0) return "전북";
+        return "전남";
+    }
+}
@@ -0,0 +1,327 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.geo.KdTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전국 PM10/PM2.5 격자 (불변)
+ *
+ * 한반도를 덮는 고정 위경도 격자의 각 셀 중심에 측정값을 미리 채워 둔다.
+ * 셀 값은 가장 가까운 측정소 값(NEAREST) 또는 가까운 측정소들의 역거리 가중 평균(IDW)이다.
+ * 조회는 배열 인덱스 계산 한 번(+ 선택적으로 주변 4셀 쌍선형 보간)이다.
+ * 셀마다 가장 가까운 측정소 행도 함께 기록해 측정소명/등급/측정시각을 돌려준다.
+ * 값이 없는 측정소는 빠지므로 셀 값에 쓰인 측정소는 레지스트리의 가까운 측정소와 다를 수 있다 ({@link #contributors}).
+ */
+public final class AirQualityRaster {
+
+    public enum Mode {
+        NEAREST,
+        IDW
+    }
+
+    // 제주 남단 ~ 휴전선 위, 백령도 ~ 울릉도/독도
+    public static final double MIN_LAT = 33.0;
+    public static final double MAX_LAT = 38.7;
+    public static final double MIN_LON = 124.5;
+    public static final double MAX_LON = 132.0;
+
+    private static final double KM_PER_DEG_LAT = 110.574;
+    private static final double KM_PER_DEG_LON_AT_EQUATOR = 111.320;
+
+    // 만들 때마다 1씩 늘어나는 세대 번호 (EMPTY = 0), 응답 버전(ETag)에 쓴다
+    private static final AtomicLong GENERATIONS = new AtomicLong(-1);
+
+    public static final AirQualityRaster EMPTY =
+            new AirQualityRaster(AirQualitySnapshot.EMPTY, Mode.NEAREST, 0, 0, 0,
+                    new short[0], new short[0], new int[0], new AirMeasurement[0], new String[0], null, 0, 0);
+
+    private final AirQualitySnapshot source;
+    private final Mode mode;
+    private final double resolutionDeg;
+    private final int rows;
+    private final int cols;
+    private final short[] pm10;           // 셀 값 (0 = 값 없음)
+    private final short[] pm25;
+    private final int[] nearestStation;   // 셀 → stations 인덱스
+    private final AirMeasurement[] stations;
+    private final String[] stationSidoNames;  // stations와 같은 인덱스의 시도명
+    private final KdTree tree;                // 값이 있는 측정소 좌표 (셀 값에 쓰인 측정소 재조회용)
+    private final int neighbors;
+    private final long buildMillis;
+    private final long generation;
+
+    private AirQualityRaster(AirQualitySnapshot source, Mode mode, double resolutionDeg, int rows, int cols,
+                             short[] pm10, short[] pm25, int[] nearestStation, AirMeasurement[] stations,
+                             String[] stationSidoNames, KdTree tree, int neighbors, long buildMillis) {
+        this.source = source;
+        this.mode = mode;
+        this.resolutionDeg = resolutionDeg;
+        this.rows = rows;
+        this.cols = cols;
+        this.pm10 = pm10;
+        this.pm25 = pm25;
+        this.nearestStation = nearestStation;
+        this.stations = stations;
+        this.stationSidoNames = stationSidoNames;
+        this.tree = tree;
+        this.neighbors = neighbors;
+        this.buildMillis = buildMillis;
+        this.generation = GENERATIONS.incrementAndGet();
+    }
+
+    /**
+     * 격자 조회 결과
+     *
+     * @param nearest 조회 지점이 속한 셀에서 가장 가까운 측정소 행
+     */
+    public record Sample(int pm10Value, int pm25Value, AirMeasurement nearest) {
+    }
+
+    /**
+     * 셀 값에 쓰인 측정소 (시도명 + 측정소명)
+     */
+    public record Contributor(String sidoName, String stationName) {
+    }
+
+    /**
+     * 스냅샷 + 측정소 좌표로 격자 생성
+     *
+     * @param neighbors 셀마다 살펴볼 가까운 측정소 수 (NEAREST는 값이 있는 첫 측정소, IDW는 가중 평균 대상)
+     */
+    public static AirQualityRaster build(AirQualitySnapshot snapshot, StationTable table,
+                                         double resolutionDeg, Mode mode, int neighbors) {
+        long startedAt = System.currentTimeMillis();
+
+        // 1️⃣ 좌표가 있고 값이 있는 측정소만 모은다 (레지스트리 ⨝ 스냅샷)
+        List<AirMeasurement> rowsWithData = new ArrayList<>();
+        List<String> sidoNames = new ArrayList<>();
+        double[] lats = new double[table.size()];
+        double[] lons = new double[table.size()];
+        for (int i = 0; i < table.size(); i++) {
+            AirMeasurement row = snapshot.find(table.getSidoName(i), table.getName(i));
+            if (row == null || !row.hasData()) {
+                continue;
+            }
+            lats[rowsWithData.size()] = table.getLat(i);
+            lons[rowsWithData.size()] = table.getLon(i);
+            rowsWithData.add(row);
+            sidoNames.add(table.getSidoName(i));
+        }
+        int stationCount = rowsWithData.size();
+        if (stationCount == 0 || resolutionDeg <= 0) {
+            return EMPTY;
+        }
+        AirMeasurement[] stations = rowsWithData.toArray(new AirMeasurement[0]);
+        double[] stationLats = Arrays.copyOf(lats, stationCount);
+        double[] stationLons = Arrays.copyOf(lons, stationCount);
+        KdTree tree = new KdTree(stationLats, stationLons);
+        int k = Math.max(1, Math.min(neighbors, stationCount));
+
+        // 2️⃣ 셀 중심마다 가까운 측정소 k개로 값 결정
+        int rows = (int) Math.ceil((MAX_LAT - MIN_LAT) / resolutionDeg - 1e-9);
+        int cols = (int) Math.ceil((MAX_LON - MIN_LON) / resolutionDeg - 1e-9);
+        short[] pm10 = new short[rows * cols];
+        short[] pm25 = new short[rows * cols];
+        int[] nearestStation = new int[rows * cols];
+
+        for (int r = 0; r < rows; r++) {
+            double lat = MIN_LAT + (r + 0.5) * resolutionDeg;
+            double kmPerDegLon = KM_PER_DEG_LON_AT_EQUATOR * Math.cos(Math.toRadians(lat));
+            for (int c = 0; c < cols; c++) {
+                double lon = MIN_LON + (c + 0.5) * resolutionDeg;
+                int[] candidates = tree.nearest(lat, lon, k);
+                int cell = r * cols + c;
+                nearestStation[cell] = candidates[0];
+
+                if (mode == Mode.NEAREST) {
+                    pm10[cell] = toShort(firstPositive(stations, candidates, true));
+                    pm25[cell] = toShort(firstPositive(stations, candidates, false));
+                    continue;
+                }
+
+                double sum10 = 0, weight10 = 0, sum25 = 0, weight25 = 0;
+                for (int candidate : candidates) {
+                    double dy = (stationLats[candidate] - lat) * KM_PER_DEG_LAT;
+                    double dx = (stationLons[candidate] - lon) * kmPerDegLon;
+                    // 측정소와 거의 겹치는 셀이 무한대 가중치가 되지 않도록 0.01km² 하한
+                    double weight = 1.0 / Math.max(dx * dx + dy * dy, 0.01);
+                    AirMeasurement station = stations[candidate];
+                    if (station.pm10Value() > 0) {
+                        sum10 += station.pm10Value() * weight;
+                        weight10 += weight;
+                    }
+                    if (station.pm25Value() > 0) {
+                        sum25 += station.pm25Value() * weight;
+                        weight25 += weight;
+                    }
+                }
+                pm10[cell] = weight10 > 0 ? toShort((int) Math.round(sum10 / weight10)) : 0;
+                pm25[cell] = weight25 > 0 ? toShort((int) Math.round(sum25 / weight25)) : 0;
+            }
+        }
+
+        return new AirQualityRaster(snapshot, mode, resolutionDeg, rows, cols, pm10, pm25, nearestStation,
+                stations, sidoNames.toArray(new String[0]), tree, k, System.currentTimeMillis() - startedAt);
+    }
+
+    private static int firstPositive(AirMeasurement[] stations, int[] candidates, boolean pm10) {
+        for (int candidate : candidates) {
+            int value = pm10 ? stations[candidate].pm10Value() : stations[candidate].pm25Value();
+            if (value > 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    private static short toShort(int value) {
+        return (short) Math.min(value, Short.MAX_VALUE);
+    }
+
+    /**
+     * 위경도의 격자 값, 격자 범위 밖이거나 비어 있으면 null
+     *
+     * @param bilinear true면 주변 4개 셀 중심 값을 쌍선형 보간 (값 없는 셀은 제외하고 가중치 재정규화)
+     */
+    public Sample sample(double lat, double lon, boolean bilinear) {
+        if (rows == 0 || lat < MIN_LAT || lat >= MAX_LAT || lon < MIN_LON || lon >= MAX_LON) {
+            return null;
+        }
+        double fy = (lat - MIN_LAT) / resolutionDeg;
+        double fx = (lon - MIN_LON) / resolutionDeg;
+        int row = Math.min((int) fy, rows - 1);
+        int col = Math.min((int) fx, cols - 1);
+        int cell = row * cols + col;
+        AirMeasurement nearest = stations[nearestStation[cell]];
+
+        if (!bilinear) {
+            return new Sample(pm10[cell], pm25[cell], nearest);
+        }
+
+        // 셀 중심 기준 좌표로 옮겨 둘러싼 4개 셀을 찾는다
+        double cy = clamp(fy - 0.5, 0, rows - 1);
+        double cx = clamp(fx - 0.5, 0, cols - 1);
+        int r0 = (int) cy;
+        int c0 = (int) cx;
+        int r1 = Math.min(r0 + 1, rows - 1);
+        int c1 = Math.min(c0 + 1, cols - 1);
+        double ty = cy - r0;
+        double tx = cx - c0;
+
+        int[] cells = {r0 * cols + c0, r0 * cols + c1, r1 * cols + c0, r1 * cols + c1};
+        double[] weights = {(1 - ty) * (1 - tx), (1 - ty) * tx, ty * (1 - tx), ty * tx};
+        return new Sample(blend(pm10, cells, weights), blend(pm25, cells, weights), nearest);
+    }
+
+    /**
+     * sample(lat, lon, bilinear) 값에 쓰인 측정소들, 격자 범위 밖이거나 비어 있으면 빈 목록
+     * 셀마다 저장하지 않고 해당 셀(쌍선형이면 주변 4셀) 중심에서 생성 때와 같은 k개 탐색을 다시 한다.
+     * NEAREST는 이 중 값이 있는 첫 측정소만 쓰지만, 그 측정소의 값이 빠지면 다음 후보로 넘어가므로 k개를 모두 돌려준다.
+     */
+    public List<Contributor> contributors(double lat, double lon, boolean bilinear) {
+        if (rows == 0 || lat < MIN_LAT || lat >= MAX_LAT || lon < MIN_LON || lon >= MAX_LON) {
+            return List.of();
+        }
+        double fy = (lat - MIN_LAT) / resolutionDeg;
+        double fx = (lon - MIN_LON) / resolutionDeg;
+        Set<Integer> cells = new LinkedHashSet<>();
+        if (bilinear) {
+            int r0 = (int) clamp(fy - 0.5, 0, rows - 1);
+            int c0 = (int) clamp(fx - 0.5, 0, cols - 1);
+            int r1 = Math.min(r0 + 1, rows - 1);
+            int c1 = Math.min(c0 + 1, cols - 1);
+            cells.addAll(List.of(r0 * cols + c0, r0 * cols + c1, r1 * cols + c0, r1 * cols + c1));
+        } else {
+            cells.add(Math.min((int) fy, rows - 1) * cols + Math.min((int) fx, cols - 1));
+        }
+
+        Set<Integer> used = new LinkedHashSet<>();
+        for (int cell : cells) {
+            double cellLat = MIN_LAT + (cell / cols + 0.5) * resolutionDeg;
+            double cellLon = MIN_LON + (cell % cols + 0.5) * resolutionDeg;
+            for (int candidate : tree.nearest(cellLat, cellLon, neighbors)) {
+                used.add(candidate);
+            }
+        }
+        List<Contributor> result = new ArrayList<>(used.size());
+        for (int station : used) {
+            result.add(new Contributor(stationSidoNames[station], stations[station].stationName()));
+        }
+        return result;
+    }
+
+    private static int blend(short[] values, int[] cells, double[] weights) {
+        double sum = 0;
+        double weightSum = 0;
+        for (int i = 0; i < cells.length; i++) {
+            short value = values[cells[i]];
+            if (value > 0) {
+                sum += value * weights[i];
+                weightSum += weights[i];
+            }
+        }
+        return weightSum > 0 ? (int) Math.round(sum / weightSum) : 0;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 이 격자를 만든 스냅샷인지 (스냅샷이 바뀌었는데 격자가 아직이면 쓰지 않는다)
+     */
+    public boolean isBuiltFrom(AirQualitySnapshot snapshot) {
+        return rows > 0 && source == snapshot;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    public String getDataTime() {
+        return source.getDataTime();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public double getResolutionDeg() {
+        return resolutionDeg;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getStationCount() {
+        return stations.length;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 격자 배열이 차지하는 대략적인 힙 크기 (배열 헤더, 측정소 행 객체 제외)
+     */
+    public long getMemoryBytes() {
+        long cells = (long) rows * cols;
+        return cells * (Short.BYTES * 2 + Integer.BYTES) + (long) stations.length * 8;
+    }
+}
@@ -0,0 +1,124 @@
+package com.walkingdog.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대기질 스냅샷 또는 측정소 레지스트리가 바뀔 때마다 전국 PM 격자를 다시 만든다.
+ * 측정값은 한 시간에 한 번 바뀌므로 요청마다 거리 계산을 하지 않고 격자 배열만 읽게 한다.
+ */
+@Service
+public class AirQualityRasterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AirQualityRasterService.class);
+
+    private final AirQualitySnapshotService snapshotService;
+    private final StationRegistry stationRegistry;
+    private final boolean enabled;
+    private final double resolutionDeg;
+    private final AirQualityRaster.Mode mode;
+    private final int neighbors;
+    private final boolean bilinear;
+
+    // synchronized 대신 ReentrantLock: 가상 스레드가 격자 생성을 기다려도 캐리어 스레드를 붙잡지 않는다
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile AirQualityRaster raster = AirQualityRaster.EMPTY;
+
+    public AirQualityRasterService(AirQualitySnapshotService snapshotService,
+                                   StationRegistry stationRegistry,
+                                   @Value("${air.raster.enabled:true}") boolean enabled,
+                                   @Value("${air.raster.resolution-deg:0.01}") double resolutionDeg,
+                                   @Value("${air.raster.mode:NEAREST}") AirQualityRaster.Mode mode,
+                                   @Value("${air.raster.neighbors:4}") int neighbors,
+                                   @Value("${air.raster.bilinear:false}") boolean bilinear) {
+        this.snapshotService = snapshotService;
+        this.stationRegistry = stationRegistry;
+        this.enabled = enabled;
+        this.resolutionDeg = resolutionDeg;
+        this.mode = mode;
+        this.neighbors = neighbors;
+        this.bilinear = bilinear;
+    }
+
+    public AirQualityRaster getRaster() {
+        return raster;
+    }
+
+    /**
+     * 주어진 스냅샷으로 만든 격자가 있으면 그 값을, 없으면 null (호출 측이 측정소 탐색으로 대체)
+     */
+    public AirQualityRaster.Sample sample(AirQualitySnapshot snapshot, double lat, double lon) {
+        AirQualityRaster current = raster;
+        if (!current.isBuiltFrom(snapshot)) {
+            return null;
+        }
+        return current.sample(lat, lon, bilinear);
+    }
+
+    /**
+     * 현재 격자에서 위경도 값에 쓰인 측정소들, 격자가 없으면 빈 목록
+     */
+    public List<AirQualityRaster.Contributor> contributors(double lat, double lon) {
+        return raster.contributors(lat, lon, bilinear);
+    }
+
+    // 구독 푸시 등 다른 리스너가 새 격자로 계산하도록 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onSnapshotRefreshed(AirQualitySnapshotRefreshedEvent event) {
+        rebuild();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onStationTableRefreshed(StationTableRefreshedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 두 갱신이 겹쳐도 항상 최신 스냅샷 + 최신 레지스트리 조합으로 만들도록 직렬화
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        AirQualitySnapshot snapshot = snapshotService.getSnapshot();
+        StationTable stations = stationRegistry.getTable();
+        if (snapshot.isEmpty() || stations.isEmpty()) {
+            logger.debug("대기질 격자 생성 보류: 스냅샷 또는 측정소 레지스트리 미적재");
+            return;
+        }
+
+        try {
+            AirQualityRaster next = AirQualityRaster.build(snapshot, stations, resolutionDeg, mode, neighbors);
+            if (next.isEmpty()) {
+                logger.warn("대기질 격자 생성: 좌표와 값이 모두 있는 측정소 없음 → 기존 격자 유지");
+                return;
+            }
+            raster = next;
+            logger.info("대기질 격자 생성: dataTime={}, {}x{} 셀 ({}°, {}), 측정소 {}개, {}KB, {}ms",
+                    next.getDataTime(), next.getRows(), next.getCols(), next.getResolutionDeg(), next.getMode(),
+                    next.getStationCount(), next.getMemoryBytes() / 1024, next.getBuildMillis());
+        } catch (Exception e) {
+            logger.warn("대기질 격자 생성 실패 → 기존 격자 유지: {}", e.getMessage(), e);
+        }
+    }
+}
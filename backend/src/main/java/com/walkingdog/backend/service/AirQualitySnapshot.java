@@ -0,0 +1,159 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시도별 실시간 대기질 테이블의 불변 스냅샷
+ * 갱신 시에는 새 스냅샷을 만들어 통째로 교체한다.
+ * 측정소 레지스트리와의 조인을 위해 (시도, 측정소명) → 행 해시를 함께 만든다.
+ * 시도마다 발표 시각이 다를 수 있으므로 측정시각은 시도별로도 보관한다.
+ */
+public final class AirQualitySnapshot {
+
+    private static final DateTimeFormatter DATA_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public static final AirQualitySnapshot EMPTY = new AirQualitySnapshot(Map.of(), Instant.EPOCH);
+
+    private final Map<String, List<AirMeasurement>> tablesBySido;
+    private final Map<String, AirMeasurement> rowsByKey;
+    private final Map<String, LocalDateTime> observedAtBySido;  // 시도별 가장 최신 측정시각 (24:00 → 다음 날 00:00)
+    private final String dataTime;   // 스냅샷 내 가장 최신 측정시각 (에어코리아 표기 그대로, yyyy-MM-dd HH:mm)
+    private final LocalDateTime observedAt;
+    private final Instant loadedAt;
+
+    public AirQualitySnapshot(Map<String, List<AirMeasurement>> tablesBySido, Instant loadedAt) {
+        Map<String, List<AirMeasurement>> copy = new LinkedHashMap<>();
+        Map<String, AirMeasurement> byKey = new HashMap<>();
+        Map<String, LocalDateTime> bySido = new HashMap<>();
+        String latest = null;
+        LocalDateTime latestAt = null;
+        for (Map.Entry<String, List<AirMeasurement>> entry : tablesBySido.entrySet()) {
+            List<AirMeasurement> rows = List.copyOf(entry.getValue());
+            copy.put(entry.getKey(), rows);
+            LocalDateTime sidoLatest = null;
+            for (AirMeasurement row : rows) {
+                byKey.putIfAbsent(key(entry.getKey(), row.stationName()), row);
+                // 문자열로 비교하면 "24:00"과 다음 날 "00:00"의 순서가 틀리므로 시각으로 바꿔 비교
+                LocalDateTime at = parseDataTime(row.dataTime());
+                if (at == null) {
+                    continue;
+                }
+                if (sidoLatest == null || at.isAfter(sidoLatest)) {
+                    sidoLatest = at;
+                }
+                if (latestAt == null || at.isAfter(latestAt)) {
+                    latestAt = at;
+                    latest = row.dataTime();
+                }
+            }
+            if (sidoLatest != null) {
+                bySido.put(entry.getKey(), sidoLatest);
+            }
+        }
+        this.tablesBySido = Collections.unmodifiableMap(copy);
+        this.rowsByKey = byKey;
+        this.observedAtBySido = bySido;
+        this.dataTime = latest;
+        this.observedAt = latestAt;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * 에어코리아 측정시각 "yyyy-MM-dd HH:mm" → 시각 (자정은 "24:00"으로 표기되므로 다음 날 00:00으로 바꾼다)
+     * 형식이 다르면 null
+     */
+    public static LocalDateTime parseDataTime(String dataTime) {
+        if (dataTime == null) {
+            return null;
+        }
+        try {
+            if (dataTime.endsWith(" 24:00")) {
+                String date = dataTime.substring(0, dataTime.length() - " 24:00".length());
+                return LocalDateTime.parse(date + " 00:00", DATA_TIME_FORMAT).plusDays(1);
+            }
+            return LocalDateTime.parse(dataTime, DATA_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String key(String sidoName, String stationName) {
+        return sidoName + "|" + stationName;
+    }
+
+    /**
+     * (시도, 측정소명)의 실시간 행, 없으면 null
+     */
+    public AirMeasurement find(String sidoName, String stationName) {
+        return rowsByKey.get(key(sidoName, stationName));
+    }
+
+    public List<AirMeasurement> getTable(String sidoName) {
+        return tablesBySido.getOrDefault(sidoName, List.of());
+    }
+
+    public boolean hasTable(String sidoName) {
+        return !getTable(sidoName).isEmpty();
+    }
+
+    public Set<String> getSidoNames() {
+        return tablesBySido.keySet();
+    }
+
+    public int getRowCount() {
+        return tablesBySido.values().stream().mapToInt(List::size).sum();
+    }
+
+    public String getDataTime() {
+        return dataTime;
+    }
+
+    /**
+     * 가장 최신 측정시각 (KST), 없으면 null
+     */
+    public LocalDateTime getObservedAt() {
+        return observedAt;
+    }
+
+    /**
+     * 시도의 가장 최신 측정시각 (KST), 테이블이 없거나 측정시각을 알 수 없으면 null
+     */
+    public LocalDateTime getObservedAt(String sidoName) {
+        return observedAtBySido.get(sidoName);
+    }
+
+    /**
+     * 시도 테이블이 expected 시각 이후 자료를 가지고 있는지
+     */
+    public boolean isFresh(String sidoName, LocalDateTime expected) {
+        LocalDateTime at = observedAtBySido.get(sidoName);
+        return at != null && !at.isBefore(expected);
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 스냅샷을 불러온 뒤 지난 시간
+     */
+    public Duration getAge() {
+        return Duration.between(loadedAt, Instant.now());
+    }
+
+    public boolean isEmpty() {
+        return tablesBySido.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 대기질 스냅샷 교체 이벤트 (refresh 스레드에서 동기 발행)
+ *
+ * @param previous 교체 전 스냅샷 (처음이면 EMPTY)
+ * @param current  새 스냅샷
+ */
+public record AirQualitySnapshotRefreshedEvent(AirQualitySnapshot previous, AirQualitySnapshot current) {
+}
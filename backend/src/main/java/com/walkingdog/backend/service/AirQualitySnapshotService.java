@@ -0,0 +1,158 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirKoreaClient;
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.util.SidoNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 에어코리아 시도별 실시간 데이터를 주기적으로 불러와 메모리 스냅샷으로 보관
+ * 요청 처리 경로는 스냅샷만 읽고 외부 API를 호출하지 않는다.
+ */
+@Service
+public class AirQualitySnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AirQualitySnapshotService.class);
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AirKoreaClient airKoreaClient;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile AirQualitySnapshot snapshot = AirQualitySnapshot.EMPTY;
+
+    public AirQualitySnapshotService(AirKoreaClient airKoreaClient, TaskScheduler taskScheduler,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.airKoreaClient = airKoreaClient;
+        this.taskScheduler = taskScheduler;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public AirQualitySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 기동 직후 첫 스냅샷 로드 (기동을 막지 않도록 스케줄러에서 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        taskScheduler.schedule(this::refresh, Instant.now());
+    }
+
+    /**
+     * 에어코리아는 매시 15~20분경 정시 자료를 올리며, 시도마다 올라오는 시각이 조금씩 다르다.
+     * 주기적으로 깨어나 이번 정시 자료가 아직 없는 시도만 다시 불러온다.
+     */
+    @Scheduled(cron = "${air.snapshot.cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        if (!airKoreaClient.isConfigured()) {
+            logger.debug("공공데이터 API 키 없음 → 대기질 스냅샷 갱신 생략");
+            return;
+        }
+
+        AirQualitySnapshot current = snapshot;
+        LocalDateTime expected = LocalDateTime.now(KST).truncatedTo(ChronoUnit.HOURS);
+        List<String> stale = staleSidoNames(current, expected);
+        if (stale.isEmpty()) {
+            logger.debug("대기질 스냅샷 최신 상태 유지: dataTime={}", current.getDataTime());
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int failed = 0;
+
+        // 뒤처진 시도 요청(및 각 시도의 나머지 페이지)을 동시에 보내 왕복 한 번 정도의 시간에 끝낸다
+        Map<String, CompletableFuture<List<AirMeasurement>>> requests = new LinkedHashMap<>();
+        for (String sidoName : stale) {
+            requests.put(sidoName, airKoreaClient.fetchRealtimeBySidoAsync(sidoName));
+        }
+
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        for (String sidoName : SidoNames.ALL) {
+            CompletableFuture<List<AirMeasurement>> request = requests.get(sidoName);
+            if (request != null) {
+                try {
+                    List<AirMeasurement> rows = request.join();
+                    if (!rows.isEmpty()) {
+                        tables.put(sidoName, rows);
+                        continue;
+                    }
+                    logger.warn("대기질 스냅샷: {} 응답에 데이터 없음", sidoName);
+                } catch (Exception e) {
+                    logger.warn("대기질 스냅샷: {} 조회 실패 - {}", sidoName, e.getMessage());
+                }
+                failed++;
+            }
+            // 이미 최신인 시도와 실패한 시도는 이전 스냅샷 테이블을 그대로 유지
+            if (current.hasTable(sidoName)) {
+                tables.put(sidoName, current.getTable(sidoName));
+            }
+        }
+
+        if (tables.isEmpty()) {
+            logger.warn("대기질 스냅샷 갱신 실패: 불러온 시도 없음");
+            return;
+        }
+
+        AirQualitySnapshot next = new AirQualitySnapshot(tables, Instant.now());
+        if (!advanced(current, next, stale)) {
+            // 아직 새 정시 자료가 올라오지 않음 → 같은 내용으로 교체·후속 처리하지 않는다
+            logger.debug("대기질 스냅샷: 새 측정시각 없음 (대상 시도 {}개, 실패 {}개)", stale.size(), failed);
+            return;
+        }
+        snapshot = next;
+
+        logger.info("대기질 스냅샷 갱신: dataTime={}, 시도={}개 (재조회 {}개), 측정소={}개, 실패={}개, {}ms",
+                next.getDataTime(), next.getSidoNames().size(), stale.size(), next.getRowCount(), failed,
+                System.currentTimeMillis() - startedAt);
+
+        // 격자 재생성 등 후속 처리
+        eventPublisher.publishEvent(new AirQualitySnapshotRefreshedEvent(current, next));
+    }
+
+    /**
+     * expected 정시 자료가 아직 없는 시도 (테이블이 없는 시도 포함)
+     */
+    static List<String> staleSidoNames(AirQualitySnapshot current, LocalDateTime expected) {
+        List<String> stale = new ArrayList<>();
+        for (String sidoName : SidoNames.ALL) {
+            if (!current.isFresh(sidoName, expected)) {
+                stale.add(sidoName);
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * 다시 불러온 시도 중 하나라도 테이블이 새로 생겼거나 측정시각이 앞으로 갔는지
+     */
+    private static boolean advanced(AirQualitySnapshot current, AirQualitySnapshot next, List<String> refreshed) {
+        for (String sidoName : refreshed) {
+            LocalDateTime before = current.getObservedAt(sidoName);
+            LocalDateTime after = next.getObservedAt(sidoName);
+            if (after != null && (before == null || after.isAfter(before))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
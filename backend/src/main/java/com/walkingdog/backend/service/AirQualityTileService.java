@@ -0,0 +1,198 @@
+package com.walkingdog.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 산책 적합도 히트맵 타일 (웹 메르카토르 z/x/y, 256x256 PNG)
+ *
+ * 픽셀마다 전국 PM 격자를 샘플링해 좋음/보통/나쁨/매우나쁨 색으로 칠한다.
+ * 격자는 측정값이 바뀔 때만 다시 만들어지므로, 같은 격자로 그린 타일은 LRU에 보관하고
+ * 격자가 바뀌면(새 dataTime) 통째로 비운다. 지도를 움직여도 외부 API 호출은 없다.
+ */
+@Service
+public class AirQualityTileService {
+
+    public static final int TILE_SIZE = 256;
+    public static final int MAX_ZOOM = 18;
+
+    // 팔레트: 0 = 투명(격자 밖/값 없음), 1~4 = WalkingStatus 코드 (에어코리아 등급 색)
+    private static final IndexColorModel PALETTE = new IndexColorModel(8, 5,
+            new byte[]{0, (byte) 0x32, (byte) 0x00, (byte) 0xFD, (byte) 0xFF},
+            new byte[]{0, (byte) 0xA1, (byte) 0xC7, (byte) 0x9B, (byte) 0x59},
+            new byte[]{0, (byte) 0xFF, (byte) 0x3C, (byte) 0x5A, (byte) 0x59},
+            new byte[]{0, (byte) 0x99, (byte) 0x99, (byte) 0x99, (byte) 0x99});
+
+    private static final byte[] EMPTY_TILE = encode(new byte[TILE_SIZE * TILE_SIZE]);
+
+    public record TileKey(int z, int x, int y) {
+    }
+
+    /**
+     * @param png      PNG 바이트
+     * @param dataTime 타일을 그린 격자의 측정시각 (격자가 없으면 null)
+     */
+    public record Tile(byte[] png, String dataTime) {
+    }
+
+    private final AirQualityRasterService rasterService;
+    private final int maxEntries;
+    private final boolean bilinear;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<TileKey, byte[]> tiles;
+    private final Counter hits;
+    private final Counter misses;
+
+    // tiles를 그린 격자 (격자가 바뀌면 캐시를 비운다)
+    private AirQualityRaster cachedRaster = AirQualityRaster.EMPTY;
+
+    public AirQualityTileService(AirQualityRasterService rasterService,
+                                 @Value("${air.tile.cache.max-entries:1000}") int maxEntries,
+                                 @Value("${air.raster.bilinear:false}") boolean bilinear,
+                                 MeterRegistry meterRegistry) {
+        this.rasterService = rasterService;
+        this.maxEntries = maxEntries;
+        this.bilinear = bilinear;
+        this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, byte[]> eldest) {
+                return size() > AirQualityTileService.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("air.tile.requests")
+                .tag("result", "hit")
+                .description("히트맵 타일 캐시 적중")
+                .register(meterRegistry);
+        this.misses = Counter.builder("air.tile.requests")
+                .tag("result", "miss")
+                .description("히트맵 타일 캐시 미적중 (새로 그림)")
+                .register(meterRegistry);
+        Gauge.builder("air.tile.cache.size", this, AirQualityTileService::size)
+                .description("히트맵 타일 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 타일 조회 (캐시에 없으면 현재 격자로 그려서 보관)
+     * 격자가 아직 없으면 투명 타일을 반환하고 캐시하지 않는다.
+     */
+    public Tile getTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new IllegalArgumentException("올바르지 않은 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+        AirQualityRaster raster = rasterService.getRaster();
+        if (raster.isEmpty()) {
+            return new Tile(EMPTY_TILE, null);
+        }
+
+        TileKey key = new TileKey(z, x, y);
+        lock.lock();
+        try {
+            if (cachedRaster != raster) {
+                tiles.clear();
+                cachedRaster = raster;
+            }
+            byte[] cached = tiles.get(key);
+            if (cached != null) {
+                hits.increment();
+                return new Tile(cached, raster.getDataTime());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // 그리기는 잠금 밖에서 (같은 타일을 동시에 그려도 결과는 같다)
+        misses.increment();
+        byte[] png = render(raster, z, x, y);
+        lock.lock();
+        try {
+            if (cachedRaster == raster) {
+                tiles.put(key, png);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new Tile(png, raster.getDataTime());
+    }
+
+    private byte[] render(AirQualityRaster raster, int z, int x, int y) {
+        double north = tileToLat(y, z);
+        double south = tileToLat(y + 1, z);
+        double west = tileToLon(x, z);
+        double east = tileToLon(x + 1, z);
+        if (south >= AirQualityRaster.MAX_LAT || north < AirQualityRaster.MIN_LAT
+                || west >= AirQualityRaster.MAX_LON || east < AirQualityRaster.MIN_LON) {
+            return EMPTY_TILE;
+        }
+
+        // 픽셀 중심의 위경도는 행/열마다 한 번만 계산
+        double[] lons = new double[TILE_SIZE];
+        for (int px = 0; px < TILE_SIZE; px++) {
+            lons[px] = tileToLon(x + (px + 0.5) / TILE_SIZE, z);
+        }
+
+        byte[] pixels = new byte[TILE_SIZE * TILE_SIZE];
+        for (int py = 0; py < TILE_SIZE; py++) {
+            double lat = tileToLat(y + (py + 0.5) / TILE_SIZE, z);
+            if (lat < AirQualityRaster.MIN_LAT || lat >= AirQualityRaster.MAX_LAT) {
+                continue;
+            }
+            int offset = py * TILE_SIZE;
+            for (int px = 0; px < TILE_SIZE; px++) {
+                AirQualityRaster.Sample sample = raster.sample(lat, lons[px], bilinear);
+                if (sample != null && (sample.pm10Value() > 0 || sample.pm25Value() > 0)) {
+                    pixels[offset + px] = (byte) WalkingStatus.of(sample.pm10Value(), sample.pm25Value()).getCode();
+                }
+            }
+        }
+        return encode(pixels);
+    }
+
+    /**
+     * 팔레트 PNG (픽셀당 1바이트 인덱스, 투명도는 tRNS)
+     */
+    private static byte[] encode(byte[] pixels) {
+        BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_BYTE_INDEXED, PALETTE);
+        byte[] data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        System.arraycopy(pixels, 0, data, 0, pixels.length);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static double tileToLon(double x, int z) {
+        return x / (1 << z) * 360.0 - 180.0;
+    }
+
+    static double tileToLat(double y, int z) {
+        double n = Math.PI - 2.0 * Math.PI * y / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return tiles.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
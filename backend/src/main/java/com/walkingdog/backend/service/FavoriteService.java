@@ -2,6 +2,9 @@ package com.walkingdog.backend.service;
 
 import com.walkingdog.backend.dto.FavoriteRequest;
 import com.walkingdog.backend.dto.FavoriteResponse;
+import com.walkingdog.backend.dto.FavoriteSuitabilityResponse;
+import com.walkingdog.backend.dto.SuitabilityBatchItem;
+import com.walkingdog.backend.dto.SuitabilityBatchLocation;
 import com.walkingdog.backend.entity.Favorite;
 import com.walkingdog.backend.entity.User;
 import com.walkingdog.backend.repository.FavoriteRepository;
@@ -10,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +26,9 @@ public class FavoriteService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private WalkingSuitabilityService walkingSuitabilityService;
+
     @Transactional
     public FavoriteResponse addFavorite(Long userId, FavoriteRequest request) {
         User user = userRepository.findById(userId)
@@ -66,6 +73,36 @@ public class FavoriteService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 찜 목록 + 위치별 현재 산책 적합도
+     * 찜마다 적합도를 따로 호출하지 않고 한 번의 일괄 계산으로 처리한다.
+     * 대기질은 메모리 스냅샷에서, 날씨는 격자별 캐시에서만 찾고 외부 API는 부르지 않는다.
+     * 캐시에 없는 격자는 기본값으로 채워 해당 항목을 degraded로 표시한다.
+     */
+    public List<FavoriteSuitabilityResponse> getUserFavoritesWithSuitability(Long userId) {
+        List<FavoriteResponse> favorites = getUserFavorites(userId);
+        if (favorites.isEmpty()) {
+            return List.of();
+        }
+
+        List<SuitabilityBatchLocation> locations = favorites.stream()
+                .map(favorite -> new SuitabilityBatchLocation(
+                        favorite.getLatitude(), favorite.getLongitude(), favorite.getLocation()))
+                .collect(Collectors.toList());
+        List<SuitabilityBatchItem> items = walkingSuitabilityService.calculateCachedBatch(locations).getResults();
+
+        List<FavoriteSuitabilityResponse> result = new ArrayList<>(favorites.size());
+        for (int i = 0; i < favorites.size(); i++) {
+            SuitabilityBatchItem item = items.get(i);
+            result.add(FavoriteSuitabilityResponse.builder()
+                    .favorite(favorites.get(i))
+                    .suitability(item.getResult())
+                    .error(item.getError())
+                    .build());
+        }
+        return result;
+    }
+
     public boolean isFavorite(Long userId, Double latitude, Double longitude) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -0,0 +1,10 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 일괄 조회용 위치
+ * @param lat     위도
+ * @param lon     경도
+ * @param address 카카오맵 역지오코딩으로 얻은 주소 (선택사항, null 가능)
+ */
+public record LocationQuery(double lat, double lon, String address) {
+}
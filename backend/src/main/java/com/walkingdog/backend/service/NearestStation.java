@@ -0,0 +1,14 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 최근접 측정소 조회 결과 (레지스트리 인덱스 + 거리)
+ */
+public record NearestStation(
+        int index,
+        String sidoName,
+        String stationName,
+        double lat,
+        double lon,
+        double distanceKm
+) {
+}
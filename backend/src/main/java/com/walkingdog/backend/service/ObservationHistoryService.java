@@ -0,0 +1,283 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.client.KmaNowcast;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import com.walkingdog.backend.dto.AirHistoryPoint;
+import com.walkingdog.backend.dto.ObservationHistoryResponse;
+import com.walkingdog.backend.dto.WeatherHistoryPoint;
+import com.walkingdog.backend.geo.KmaGridProjector;
+import com.walkingdog.backend.store.KeyDictionary;
+import com.walkingdog.backend.store.TimeSeriesStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간별 대기질(측정소)·날씨(기상청 격자) 관측 이력
+ *
+ * 스냅샷은 갱신 때마다 통째로 교체되므로, 교체 이벤트를 받아 측정소별 PM10/PM2.5/통합지수 등급을
+ * 시계열 저장소에 붙여 둔다. 날씨는 기상청에서 새로 받아 온 격자·발표시각 값만 기록한다.
+ * 이력 조회(추세, "어제 같은 시각")는 메모리 매핑된 세그먼트만 읽으므로 DB나 외부 API를 부르지 않는다.
+ *
+ * 저장 형식 (행 13바이트)
+ * - air:     key = 측정소 사전 번호("시도|측정소명"), v1 = PM10, v2 = PM2.5, v3 = 등급 (값 없음 0)
+ * - weather: key = nx * 1000 + ny, v1 = 기온 × 10 (없음 Short.MIN_VALUE), v2 = 하늘상태, v3 = 강수형태 (없음 -1)
+ */
+@Service
+public class ObservationHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObservationHistoryService.class);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final ZoneOffset KST_OFFSET = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter BASE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private static final short NO_TEMPERATURE = Short.MIN_VALUE;
+    private static final byte NO_CODE = -1;
+
+    private final StationRegistry stationRegistry;
+    private final int retentionDays;
+
+    // 디렉터리를 열 수 없으면 null (이력 기능만 꺼지고 나머지는 그대로 동작)
+    private final KeyDictionary stations;
+    private final TimeSeriesStore airStore;
+    private final TimeSeriesStore weatherStore;
+
+    public ObservationHistoryService(StationRegistry stationRegistry,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${observation.history.enabled:true}") boolean enabled,
+                                     @Value("${observation.history.dir:data/observations}") String directory,
+                                     @Value("${observation.history.retention-days:7}") int retentionDays,
+                                     @Value("${observation.history.segment-capacity:32768}") int segmentCapacity) {
+        this.stationRegistry = stationRegistry;
+        this.retentionDays = Math.max(1, retentionDays);
+
+        KeyDictionary dictionary = null;
+        TimeSeriesStore air = null;
+        TimeSeriesStore weather = null;
+        if (enabled) {
+            try {
+                Path root = Path.of(directory);
+                dictionary = new KeyDictionary(root.resolve("stations.tsv"));
+                air = new TimeSeriesStore(root, "air", segmentCapacity);
+                weather = new TimeSeriesStore(root, "weather", segmentCapacity);
+                logger.info("관측 이력 저장소 열기: dir={}, 보존 {}일", root.toAbsolutePath(), this.retentionDays);
+            } catch (IOException | RuntimeException e) {
+                logger.error("관측 이력 저장소를 열 수 없어 이력 기록을 끕니다: dir={}", directory, e);
+                dictionary = null;
+                air = null;
+                weather = null;
+            }
+        }
+        this.stations = dictionary;
+        this.airStore = air;
+        this.weatherStore = weather;
+
+        if (isEnabled()) {
+            applyRetention();
+            for (TimeSeriesStore store : List.of(airStore, weatherStore)) {
+                Gauge.builder("observation.history.rows", store, TimeSeriesStore::getRowCount)
+                        .tag("series", store.getName())
+                        .description("관측 이력 저장소 행 수")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return airStore != null;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    /**
+     * 새 스냅샷의 측정소별 값 기록 (이미 기록한 측정시각은 저장소가 걸러낸다)
+     */
+    @EventListener
+    public void onSnapshotRefreshed(AirQualitySnapshotRefreshedEvent event) {
+        recordAir(event.current());
+    }
+
+    public void recordAir(AirQualitySnapshot snapshot) {
+        if (!isEnabled() || snapshot.isEmpty()) {
+            return;
+        }
+        int appended = 0;
+        try {
+            for (String sidoName : snapshot.getSidoNames()) {
+                for (AirMeasurement row : snapshot.getTable(sidoName)) {
+                    LocalDateTime dataTime = AirQualitySnapshot.parseDataTime(row.dataTime());
+                    if (dataTime == null || !row.hasData()) {
+                        continue;
+                    }
+                    int key = stations.idOf(sidoName + "|" + row.stationName());
+                    if (airStore.append(epochHour(dataTime), key,
+                            clampShort(row.pm10Value()), clampShort(row.pm25Value()), (byte) row.khaiGrade())) {
+                        appended++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("대기질 이력 기록 실패: {}", e.getMessage());
+        }
+        logger.debug("대기질 이력 기록: dataTime={}, 새 행 {}개", snapshot.getDataTime(), appended);
+    }
+
+    /**
+     * 기상청에서 새로 받은 초단기실황 기록 (같은 격자·발표시각은 한 번만 저장된다)
+     */
+    public void recordWeather(WeatherCache.Key key, KmaNowcast nowcast) {
+        if (!isEnabled() || nowcast == null || nowcast.isEmpty()) {
+            return;
+        }
+        LocalDateTime base;
+        try {
+            base = LocalDateTime.parse(key.baseDate() + key.baseTime(), BASE_FORMAT);
+        } catch (DateTimeParseException e) {
+            return;
+        }
+        short temperature = Double.isNaN(nowcast.temperature())
+                ? NO_TEMPERATURE
+                : clampShort((int) Math.round(nowcast.temperature() * 10));
+        short sky = nowcast.sky() == null ? NO_CODE : (short) nowcast.sky().getCode();
+        byte precipitation = nowcast.precipitation() == null ? NO_CODE : (byte) nowcast.precipitation().getCode();
+        try {
+            weatherStore.append(epochHour(base), gridKey(key.nx(), key.ny()), temperature, sky, precipitation);
+        } catch (IOException e) {
+            logger.warn("날씨 이력 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 위치 기준 이력 조회: 최근접 측정소의 대기질 + 해당 기상청 격자의 날씨 (구간 양 끝 포함, 정시 단위)
+     *
+     * @throws IllegalArgumentException 구간이 뒤집혔거나 보존 기간보다 긴 경우
+     * @throws IllegalStateException    이력 저장소가 꺼져 있는 경우
+     */
+    public ObservationHistoryResponse getHistory(double lat, double lon, LocalDateTime from, LocalDateTime to) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("관측 이력 저장소가 꺼져 있습니다.");
+        }
+        LocalDateTime fromHour = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime toHour = to.truncatedTo(ChronoUnit.HOURS);
+        if (fromHour.isAfter(toHour)) {
+            throw new IllegalArgumentException("from이 to보다 늦습니다.");
+        }
+        if (ChronoUnit.HOURS.between(fromHour, toHour) > retentionDays * 24L) {
+            throw new IllegalArgumentException("조회 구간은 최대 " + retentionDays + "일입니다.");
+        }
+        int fromEpochHour = epochHour(fromHour);
+        int toEpochHour = epochHour(toHour);
+
+        // 1️⃣ 최근접 측정소 대기질
+        ObservationHistoryResponse response = new ObservationHistoryResponse();
+        List<AirHistoryPoint> air = new ArrayList<>();
+        List<NearestStation> nearest = stationRegistry.findNearest(lat, lon, 1);
+        if (!nearest.isEmpty()) {
+            NearestStation station = nearest.get(0);
+            response.setStationName(station.stationName());
+            response.setSidoName(station.sidoName());
+            int key = stations.find(station.sidoName() + "|" + station.stationName());
+            if (key >= 0) {
+                airStore.query(key, fromEpochHour, toEpochHour, (hour, pm10, pm25, grade) ->
+                        air.add(new AirHistoryPoint(format(hour), nullIfZero(pm10), nullIfZero(pm25), nullIfZero(grade))));
+            }
+        }
+
+        // 2️⃣ 기상청 격자 날씨
+        KmaGridProjector.GridPoint grid = KmaGridProjector.toGrid(lat, lon);
+        List<WeatherHistoryPoint> weather = new ArrayList<>();
+        weatherStore.query(gridKey(grid.nx(), grid.ny()), fromEpochHour, toEpochHour, (hour, temperature, sky, precipitation) -> {
+            SkyCode skyCode = sky == NO_CODE ? null : SkyCode.fromCode(sky);
+            PrecipitationType type = precipitation == NO_CODE ? null : PrecipitationType.fromCode(precipitation);
+            weather.add(new WeatherHistoryPoint(
+                    format(hour),
+                    temperature == NO_TEMPERATURE ? null : temperature / 10.0,
+                    skyCode == null ? null : skyCode.getCode(),
+                    skyCode == null ? null : skyCode.getLabel(),
+                    type == null ? null : type.getCode(),
+                    type == null ? null : type.getLabel()));
+        });
+
+        response.setNx(grid.nx());
+        response.setNy(grid.ny());
+        response.setFrom(fromHour.format(TIME_FORMAT));
+        response.setTo(toHour.format(TIME_FORMAT));
+        response.setAir(air);
+        response.setWeather(weather);
+        return response;
+    }
+
+    /**
+     * 보존 기간이 지난 날의 세그먼트 삭제 (매일 새벽, 기동 시 한 번)
+     */
+    @Scheduled(cron = "${observation.history.retention-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void applyRetention() {
+        if (!isEnabled()) {
+            return;
+        }
+        int cutoff = epochHour(LocalDateTime.now(KST).truncatedTo(ChronoUnit.HOURS).minusDays(retentionDays));
+        int deleted = airStore.deleteBefore(cutoff) + weatherStore.deleteBefore(cutoff);
+        if (deleted > 0) {
+            logger.info("관측 이력 보존 기간({}일) 지난 세그먼트 {}개 삭제", retentionDays, deleted);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!isEnabled()) {
+            return;
+        }
+        airStore.close();
+        weatherStore.close();
+        try {
+            stations.close();
+        } catch (IOException e) {
+            logger.warn("측정소 사전 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * KST 시각 → epoch hour
+     */
+    private static int epochHour(LocalDateTime kst) {
+        return (int) Math.floorDiv(kst.toEpochSecond(KST_OFFSET), 3600L);
+    }
+
+    private static String format(int epochHour) {
+        return LocalDateTime.ofEpochSecond(epochHour * 3600L, 0, KST_OFFSET).format(TIME_FORMAT);
+    }
+
+    private static int gridKey(int nx, int ny) {
+        return nx * 1000 + ny;
+    }
+
+    private static short clampShort(int value) {
+        return (short) Math.max(Short.MIN_VALUE + 1, Math.min(Short.MAX_VALUE, value));
+    }
+
+    private static Integer nullIfZero(int value) {
+        return value == 0 ? null : value;
+    }
+}
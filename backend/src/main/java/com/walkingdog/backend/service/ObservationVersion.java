@@ -0,0 +1,14 @@
+package com.walkingdog.backend.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 응답을 만든 관측 자료의 버전 (HTTP 조건부 요청용)
+ *
+ * @param etag         약한 ETag (W/"...")
+ * @param lastModified 응답에 쓰인 가장 최근 관측/발표 시각
+ * @param maxAge       다음 자료가 나올 것으로 예상되는 시각까지 남은 시간
+ */
+public record ObservationVersion(String etag, Instant lastModified, Duration maxAge) {
+}
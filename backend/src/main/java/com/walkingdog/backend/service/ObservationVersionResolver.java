@@ -0,0 +1,95 @@
+package com.walkingdog.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 대기질 / 산책 적합도 응답의 버전 계산 (ETag, Last-Modified, Cache-Control max-age)
+ *
+ * 응답 값은 에어코리아 측정시각(dataTime)과 기상청 발표시각(base_time)이 바뀔 때만 달라지므로,
+ * 메모리 스냅샷과 현재 시각만으로 버전을 정한다. 서비스 계층(외부 API, 격자 조회)을 거치지 않아
+ * If-None-Match가 맞으면 컨트롤러에서 바로 304로 끝낼 수 있다.
+ */
+@Component
+public class ObservationVersionResolver {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 에어코리아 정시 자료는 매시 15분경 올라오고, 스냅샷은 10분마다 확인한다
+    private static final Duration AIR_NEXT_UPDATE = Duration.ofMinutes(60 + 15 + 10);
+
+    // 예정 시각이 지났는데 아직 새 자료가 없으면 짧게 캐시하고 다시 확인하게 한다
+    private static final Duration MIN_MAX_AGE = Duration.ofSeconds(60);
+
+    private final AirQualitySnapshotService snapshotService;
+    private final AirQualityRasterService rasterService;
+
+    public ObservationVersionResolver(AirQualitySnapshotService snapshotService,
+                                      AirQualityRasterService rasterService) {
+        this.snapshotService = snapshotService;
+        this.rasterService = rasterService;
+    }
+
+    /**
+     * 대기질 응답 버전, 스냅샷이 아직 없으면(Mock 응답) null
+     */
+    public ObservationVersion forAirQuality() {
+        return forAirQuality(snapshotService.getSnapshot());
+    }
+
+    private ObservationVersion forAirQuality(AirQualitySnapshot snapshot) {
+        LocalDateTime dataTime = snapshot.getObservedAt();
+        if (snapshot.isEmpty() || dataTime == null) {
+            return null;
+        }
+        Instant observedAt = dataTime.atZone(KST).toInstant();
+        return new ObservationVersion(
+                etag(airToken(snapshot)),
+                observedAt,
+                maxAgeUntil(observedAt.plus(AIR_NEXT_UPDATE)));
+    }
+
+    /**
+     * 산책 적합도 응답 버전 (대기질 스냅샷 + 기상청 발표시각), 스냅샷이 아직 없으면 null
+     */
+    public ObservationVersion forSuitability() {
+        AirQualitySnapshot snapshot = snapshotService.getSnapshot();
+        ObservationVersion air = forAirQuality(snapshot);
+        if (air == null) {
+            return null;
+        }
+        LocalDateTime base = WeatherService.currentBase();
+        Instant baseAt = base.atZone(KST).toInstant();
+        Instant nextAir = air.lastModified().plus(AIR_NEXT_UPDATE);
+        Instant nextWeather = baseAt.plus(WeatherCache.VALIDITY);
+
+        Instant lastModified = baseAt.isAfter(air.lastModified()) ? baseAt : air.lastModified();
+        Instant next = nextWeather.isBefore(nextAir) ? nextWeather : nextAir;
+        String token = airToken(snapshot)
+                + "-" + base.format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
+        return new ObservationVersion(etag(token), lastModified, maxAgeUntil(next));
+    }
+
+    /**
+     * 스냅샷 교체 시각 + 사용 중인 격자 세대 (같은 스냅샷이라도 격자가 새로 만들어지면 값이 조금 달라진다)
+     */
+    private String airToken(AirQualitySnapshot snapshot) {
+        AirQualityRaster raster = rasterService.getRaster();
+        long generation = raster.isBuiltFrom(snapshot) ? raster.getGeneration() : 0;
+        return Long.toHexString(snapshot.getLoadedAt().toEpochMilli()) + "." + Long.toHexString(generation);
+    }
+
+    private static String etag(String token) {
+        return "W/\"" + token + "\"";
+    }
+
+    private static Duration maxAgeUntil(Instant next) {
+        Duration remaining = Duration.between(Instant.now(), next);
+        return remaining.compareTo(MIN_MAX_AGE) < 0 ? MIN_MAX_AGE : remaining;
+    }
+}
@@ -0,0 +1,82 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirKoreaClient;
+import com.walkingdog.backend.client.StationRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 전국 측정소 목록 레지스트리
+ * 기동 시 한 번, 이후 하루 한 번 getMsrstnList를 불러와 불변 테이블로 교체한다.
+ * 요청 처리 경로는 측정소 정보 API를 호출하지 않는다.
+ */
+@Service
+public class StationRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationRegistry.class);
+
+    private final AirKoreaClient airKoreaClient;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile StationTable table = StationTable.EMPTY;
+
+    public StationRegistry(AirKoreaClient airKoreaClient, TaskScheduler taskScheduler,
+                           ApplicationEventPublisher eventPublisher) {
+        this.airKoreaClient = airKoreaClient;
+        this.taskScheduler = taskScheduler;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public StationTable getTable() {
+        return table;
+    }
+
+    /**
+     * 가까운 순서대로 최대 k개 측정소와 거리 (보간 등에 사용)
+     */
+    public List<NearestStation> findNearest(double lat, double lon, int k) {
+        return table.nearest(lat, lon, k);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        taskScheduler.schedule(this::refresh, Instant.now());
+    }
+
+    /**
+     * 측정소 위치는 1년에 몇 번 바뀌는 수준이라 하루 한 번이면 충분하다.
+     */
+    @Scheduled(cron = "${station.registry.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        if (!airKoreaClient.isConfigured()) {
+            logger.debug("공공데이터 API 키 없음 → 측정소 레지스트리 갱신 생략");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<StationRecord> stations = airKoreaClient.fetchStations();
+            if (stations.isEmpty()) {
+                logger.warn("측정소 레지스트리 갱신: 응답에 측정소 없음 → 기존 목록 유지 ({}개)", table.size());
+                return;
+            }
+            StationTable next = new StationTable(stations);
+            table = next;
+            logger.info("측정소 레지스트리 갱신: {}개 측정소, {}ms",
+                    stations.size(), System.currentTimeMillis() - startedAt);
+            eventPublisher.publishEvent(new StationTableRefreshedEvent(next));
+        } catch (Exception e) {
+            logger.warn("측정소 레지스트리 갱신 실패 → 기존 목록 유지 ({}개): {}", table.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.StationRecord;
+import com.walkingdog.backend.geo.GeoUtil;
+import com.walkingdog.backend.geo.KdTree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전국 측정소 목록의 불변 테이블
+ * 좌표는 primitive 배열로 보관하고, (시도, 측정소명) → 인덱스 해시와
+ * 좌표 k-d 트리를 생성 시점에 한 번 만들어 둔다.
+ * 측정소명은 시도마다 겹칠 수 있으므로 (예: 서울/부산 "중구") 시도명과 함께 키로 쓴다.
+ */
+public final class StationTable {
+
+    public static final StationTable EMPTY = new StationTable(List.of());
+
+    private final String[] sidoNames;
+    private final String[] names;
+    private final String[] addrs;
+    private final double[] lats;   // WGS84 위도
+    private final double[] lons;   // WGS84 경도
+    private final Map<String, Integer> indexByKey;
+    private final KdTree spatialIndex;
+
+    public StationTable(List<StationRecord> records) {
+        int n = records.size();
+        this.sidoNames = new String[n];
+        this.names = new String[n];
+        this.addrs = new String[n];
+        this.lats = new double[n];
+        this.lons = new double[n];
+        this.indexByKey = new HashMap<>(n * 2);
+
+        for (int i = 0; i < n; i++) {
+            StationRecord record = records.get(i);
+            sidoNames[i] = record.sidoName();
+            names[i] = record.stationName();
+            addrs[i] = record.addr();
+            lats[i] = record.lat();
+            lons[i] = record.lon();
+            indexByKey.putIfAbsent(key(record.sidoName(), record.stationName()), i);
+        }
+        this.spatialIndex = new KdTree(lats, lons);
+    }
+
+    private static String key(String sidoName, String stationName) {
+        return sidoName + "|" + stationName;
+    }
+
+    /**
+     * (시도, 측정소명)의 인덱스, 없으면 -1
+     */
+    public int indexOf(String sidoName, String stationName) {
+        Integer index = indexByKey.get(key(sidoName, stationName));
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 가까운 순서대로 최대 k개 측정소 (거리 포함)
+     */
+    public List<NearestStation> nearest(double lat, double lon, int k) {
+        int[] indices = spatialIndex.nearest(lat, lon, k);
+        List<NearestStation> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(new NearestStation(index, sidoNames[index], names[index], lats[index], lons[index],
+                    GeoUtil.distanceKm(lat, lon, lats[index], lons[index])));
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    public String getSidoName(int index) {
+        return sidoNames[index];
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public String getAddr(int index) {
+        return addrs[index];
+    }
+
+    public double getLat(int index) {
+        return lats[index];
+    }
+
+    public double getLon(int index) {
+        return lons[index];
+    }
+}
@@ -0,0 +1,7 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 측정소 레지스트리 테이블 교체 이벤트
+ */
+public record StationTableRefreshedEvent(StationTable table) {
+}
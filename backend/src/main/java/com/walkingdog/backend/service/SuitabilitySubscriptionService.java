@@ -0,0 +1,354 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.dto.SuitabilityBatchItem;
+import com.walkingdog.backend.dto.SuitabilityBatchLocation;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 산책 적합도 변경 구독 (Server-Sent Events)
+ *
+ * 구독 위치를 그 위치의 격자 값에 실제로 쓰인 측정소들 기준으로 색인해 두고,
+ * 대기질 스냅샷이 바뀌면 값이 바뀐 측정소에 묶인 구독만 다시 계산한다.
+ * 값이 있는 측정소 구성이 바뀌면 격자 값에 쓰이는 측정소도 달라지므로 그때는 색인을 다시 만든다. 계산 결과(등급, PM10, PM2.5)가
+ * 마지막으로 보낸 값과 다를 때만 이벤트를 보내므로 클라이언트는 폴링할 필요가 없다.
+ */
+@Service
+public class SuitabilitySubscriptionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuitabilitySubscriptionService.class);
+
+    static final String EVENT_NAME = "suitability";
+
+    private record StationKey(String sidoName, String stationName) {
+    }
+
+    private static final class Subscription {
+        final long id;
+        final double lat;
+        final double lon;
+        final String address;
+        final SseEmitter emitter;
+        volatile List<StationKey> stations = List.of();
+        volatile WalkingSuitabilityResponse last;
+        // 해제된 구독은 다시 색인하지 않는다 (콜백 스레드의 해제와 재색인이 겹쳐도 byStation에 남지 않게)
+        volatile boolean removed;
+
+        Subscription(long id, double lat, double lon, String address, SseEmitter emitter) {
+            this.id = id;
+            this.lat = lat;
+            this.lon = lon;
+            this.address = address;
+            this.emitter = emitter;
+        }
+    }
+
+    // 레지스트리 미적재 등으로 측정소를 정하지 못한 구독 → 갱신 때마다 모두 다시 계산
+    private static final StationKey UNINDEXED = new StationKey("", "");
+
+    private final WalkingSuitabilityService walkingSuitabilityService;
+    private final StationRegistry stationRegistry;
+    private final AirQualityRasterService rasterService;
+    private final ExecutorService fanOutExecutor;
+    private final int neighbors;
+    private final long timeoutMs;
+    private final int maxSubscriptions;
+
+    private final Map<StationKey, Set<Subscription>> byStation = new ConcurrentHashMap<>();
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    // 등록 전에 자리를 먼저 잡아 동시에 들어온 구독이 상한을 넘지 않게 한다 (해제 시 반납)
+    private final AtomicInteger slots = new AtomicInteger();
+
+    public SuitabilitySubscriptionService(WalkingSuitabilityService walkingSuitabilityService,
+                                          StationRegistry stationRegistry,
+                                          AirQualityRasterService rasterService,
+                                          @Qualifier("fanOutExecutor") ExecutorService fanOutExecutor,
+                                          @Value("${air.raster.neighbors:4}") int neighbors,
+                                          @Value("${walking.subscription.timeout-ms:1800000}") long timeoutMs,
+                                          @Value("${walking.subscription.max:10000}") int maxSubscriptions) {
+        this.walkingSuitabilityService = walkingSuitabilityService;
+        this.stationRegistry = stationRegistry;
+        this.rasterService = rasterService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.neighbors = Math.max(neighbors, 1);
+        this.timeoutMs = timeoutMs;
+        this.maxSubscriptions = maxSubscriptions;
+    }
+
+    /**
+     * 위치 구독 등록 (현재 값은 첫 이벤트로 가상 스레드에서 보낸다)
+     */
+    public SseEmitter subscribe(double lat, double lon, String address) {
+        if (slots.incrementAndGet() > maxSubscriptions) {
+            slots.decrementAndGet();
+            throw new IllegalStateException("구독 가능한 연결 수를 초과했습니다.");
+        }
+
+        SseEmitter emitter;
+        Subscription subscription;
+        try {
+            emitter = newEmitter();
+            subscription = new Subscription(ids.incrementAndGet(), lat, lon, address, emitter);
+            subscriptions.put(subscription.id, subscription);
+        } catch (RuntimeException e) {
+            slots.decrementAndGet();
+            throw e;
+        }
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+        index(subscription, stationRegistry.getTable());
+        logger.info("산책 적합도 구독 등록: id={}, lat={}, lon={}, 측정소={}, 전체 구독={}",
+                subscription.id, lat, lon, subscription.stations.stream().map(StationKey::stationName).toList(),
+                subscriptions.size());
+
+        // 첫 계산은 일괄 계산(날씨 캐시 미스 시 기상청 호출 포함)이라 요청 스레드를 붙잡지 않는다
+        fanOutExecutor.execute(() -> push(List.of(subscription), true));
+        return emitter;
+    }
+
+    /**
+     * 스냅샷이 바뀌면 값이 달라진 측정소의 구독만 다시 계산 (전송은 가상 스레드에서)
+     */
+    @EventListener
+    public void onSnapshotRefreshed(AirQualitySnapshotRefreshedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Set<StationKey> changed = changedStations(event.previous(), event.current());
+
+        // 여러 측정소에 색인된 구독은 한 번만
+        Set<Subscription> targets = new LinkedHashSet<>(byStation.getOrDefault(UNINDEXED, Set.of()));
+        collect(changed, targets);
+        // 값이 생기거나 빠진 측정소가 있으면 격자 값에 쓰이는 측정소가 달라진다 (격자는 이 리스너보다 먼저 다시 만들어짐)
+        if (coverageChanged(event.previous(), event.current())) {
+            reindexAll(stationRegistry.getTable());
+            collect(changed, targets);
+        }
+        List<Subscription> affected = new ArrayList<>(targets);
+        logger.info("대기질 갱신 → 구독 재계산: 바뀐 측정소 {}개, 대상 구독 {}/{}개",
+                changed.size(), affected.size(), subscriptions.size());
+        if (!affected.isEmpty()) {
+            fanOutExecutor.execute(() -> push(affected, false));
+        }
+    }
+
+    /**
+     * 측정소 목록이 바뀌면 가장 가까운 측정소가 달라질 수 있으므로 색인을 다시 만든다
+     */
+    @EventListener
+    public void onStationTableRefreshed(StationTableRefreshedEvent event) {
+        reindexAll(event.table());
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보내고,
+     * 이미 끊긴 연결은 이때 정리한다. 전송은 공용 스케줄러 스레드가 아닌 가상 스레드에서 한다.
+     */
+    @Scheduled(fixedDelayString = "${walking.subscription.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        List<Subscription> targets = new ArrayList<>(subscriptions.values());
+        fanOutExecutor.execute(() -> sendHeartbeats(targets));
+    }
+
+    private void sendHeartbeats(List<Subscription> targets) {
+        for (Subscription subscription : targets) {
+            try {
+                subscription.emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                subscription.emitter.completeWithError(e);
+                remove(subscription);
+            }
+        }
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * 구독 위치들의 적합도를 일괄 계산 (스냅샷 + 격자별 날씨 캐시) 하고 바뀐 것만 전송
+     */
+    private void push(List<Subscription> targets, boolean always) {
+        List<SuitabilityBatchLocation> locations = new ArrayList<>(targets.size());
+        for (Subscription subscription : targets) {
+            locations.add(new SuitabilityBatchLocation(subscription.lat, subscription.lon, subscription.address));
+        }
+        List<SuitabilityBatchItem> items = walkingSuitabilityService.calculateBatch(locations).getResults();
+
+        int sent = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            Subscription subscription = targets.get(i);
+            WalkingSuitabilityResponse current = items.get(i).getResult();
+            if (current == null || subscription.removed || (!always && !isChanged(subscription.last, current))) {
+                continue;
+            }
+            try {
+                subscription.emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(subscription.id))
+                        .data(current));
+                subscription.last = current;
+                sent++;
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("구독 전송 실패 → 연결 정리: id={}", subscription.id);
+                subscription.emitter.completeWithError(e);
+                remove(subscription);
+            }
+        }
+        if (!always) {
+            logger.info("산책 적합도 변경 전송: {}/{}건", sent, targets.size());
+        }
+    }
+
+    private static boolean isChanged(WalkingSuitabilityResponse last, WalkingSuitabilityResponse current) {
+        return last == null
+                || !current.getStatus().equals(last.getStatus())
+                || current.getPm10Value() != last.getPm10Value()
+                || current.getPm25Value() != last.getPm25Value();
+    }
+
+    /**
+     * 이전 스냅샷과 비교해 PM10 / PM2.5 값이 바뀌었거나 새로 생긴 측정소
+     */
+    private static Set<StationKey> changedStations(AirQualitySnapshot previous, AirQualitySnapshot current) {
+        Set<StationKey> changed = new HashSet<>();
+        for (String sidoName : current.getSidoNames()) {
+            for (AirMeasurement row : current.getTable(sidoName)) {
+                AirMeasurement before = previous.find(sidoName, row.stationName());
+                if (before == null
+                        || before.pm10Value() != row.pm10Value()
+                        || before.pm25Value() != row.pm25Value()) {
+                    changed.add(new StationKey(sidoName, row.stationName()));
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 이전 스냅샷과 비교해 값이 생기거나 빠진 측정소가 있는지 (격자에서 빠지거나 새로 들어가는 측정소)
+     */
+    private static boolean coverageChanged(AirQualitySnapshot previous, AirQualitySnapshot current) {
+        for (String sidoName : current.getSidoNames()) {
+            for (AirMeasurement row : current.getTable(sidoName)) {
+                AirMeasurement before = previous.find(sidoName, row.stationName());
+                if ((before != null && before.hasData()) != row.hasData()) {
+                    return true;
+                }
+            }
+        }
+        for (String sidoName : previous.getSidoNames()) {
+            for (AirMeasurement row : previous.getTable(sidoName)) {
+                if (row.hasData() && current.find(sidoName, row.stationName()) == null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void collect(Set<StationKey> stations, Set<Subscription> targets) {
+        for (StationKey station : stations) {
+            targets.addAll(byStation.getOrDefault(station, Set.of()));
+        }
+    }
+
+    private void reindexAll(StationTable table) {
+        for (Subscription subscription : subscriptions.values()) {
+            unindex(subscription);
+            index(subscription, table);
+        }
+    }
+
+    /**
+     * 색인된 측정소 수 (테스트 확인용)
+     */
+    int indexedStationCount() {
+        return byStation.size();
+    }
+
+    /**
+     * 격자가 있으면 그 위치 값에 쓰인 측정소(값 없는 측정소는 건너뛴 결과)로,
+     * 없으면 측정소 탐색 경로와 같이 레지스트리의 가까운 측정소로 색인
+     *
+     * 넣은 뒤에 해제 여부를 다시 보고 되돌린다. remove()는 표시를 먼저 하고 빼므로
+     * 둘이 어떤 순서로 겹쳐도 한쪽은 반드시 정리한다.
+     */
+    private void index(Subscription subscription, StationTable table) {
+        if (subscription.removed) {
+            return;
+        }
+        List<StationKey> stations = new ArrayList<>(neighbors);
+        for (AirQualityRaster.Contributor contributor : rasterService.contributors(subscription.lat, subscription.lon)) {
+            stations.add(new StationKey(contributor.sidoName(), contributor.stationName()));
+        }
+        if (stations.isEmpty() && !table.isEmpty()) {
+            for (NearestStation nearest : table.nearest(subscription.lat, subscription.lon, neighbors)) {
+                stations.add(new StationKey(nearest.sidoName(), nearest.stationName()));
+            }
+        }
+        if (stations.isEmpty()) {
+            stations.add(UNINDEXED);
+        }
+        subscription.stations = stations;
+        for (StationKey station : stations) {
+            // unindex()가 빈 집합을 지우는 것과 겹치지 않게 추가도 compute 안에서
+            byStation.compute(station, (key, set) -> {
+                Set<Subscription> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(subscription);
+                return target;
+            });
+        }
+        if (subscription.removed) {
+            unindex(subscription);
+        }
+    }
+
+    private void unindex(Subscription subscription) {
+        for (StationKey station : subscription.stations) {
+            byStation.computeIfPresent(station, (key, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscription.removed = true;
+        // 이미 빠진 구독이라도 그 사이 재색인으로 다시 들어갔을 수 있으므로 항상 뺀다
+        unindex(subscription);
+        if (subscriptions.remove(subscription.id) != null) {
+            slots.decrementAndGet();
+            logger.debug("산책 적합도 구독 해제: id={}, 남은 구독={}", subscription.id, subscriptions.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.walkingdog.backend.service;
+
+/**
+ * 산책 적합도 등급 (PM10 / PM2.5 중 나쁜 쪽 기준)
+ */
+public enum WalkingStatus {
+    GOOD(1, "좋음"),
+    NORMAL(2, "보통"),
+    BAD(3, "나쁨"),
+    VERY_BAD(4, "매우나쁨");
+
+    private final int code;
+    private final String label;
+
+    WalkingStatus(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static WalkingStatus of(int pm10, int pm25) {
+        if (pm10 > 150 || pm25 > 75) return VERY_BAD;
+        if (pm10 > 80 || pm25 > 35) return BAD;
+        if (pm10 > 30 || pm25 > 15) return NORMAL;
+        return GOOD;
+    }
+}
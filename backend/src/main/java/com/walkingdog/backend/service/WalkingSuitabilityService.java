@@ -1,30 +1,284 @@
 package com.walkingdog.backend.service;
 
 import com.walkingdog.backend.dto.AirQualityResponse;
+import com.walkingdog.backend.dto.SuitabilityBatchItem;
+import com.walkingdog.backend.dto.SuitabilityBatchLocation;
+import com.walkingdog.backend.dto.SuitabilityBatchResponse;
 import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class WalkingSuitabilityService {
 
+    private static final Logger logger = LoggerFactory.getLogger(WalkingSuitabilityService.class);
+
     @Autowired
     private AirQualityService airQualityService;
 
     @Autowired
     private WeatherService weatherService;
 
+    @Autowired
+    @Qualifier("fanOutExecutor")
+    private ExecutorService fanOutExecutor;
+
+    // 대기질 + 날씨 전체에 대한 응답 기한
+    @Value("${walking.suitability.deadline-ms:3000}")
+    private long deadlineMs;
+
+    // 일괄 조회 한 번에 받을 수 있는 최대 위치 수
+    @Value("${walking.suitability.batch.max-size:100}")
+    private int batchMaxSize;
+
     public WalkingSuitabilityResponse calculateSuitability(double lat, double lon) {
         return calculateSuitability(lat, lon, null);
     }
 
     public WalkingSuitabilityResponse calculateSuitability(double lat, double lon, String address) {
 
-        AirQualityResponse airQuality =
-                airQualityService.getAirQualityByLocation(lat, lon, address);
+        // 1️⃣ 대기질 / 날씨 조회를 가상 스레드에서 동시에 시작
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        Future<AirQualityResponse> airFuture =
+                fanOutExecutor.submit(() -> airQualityService.getAirQualityByLocation(lat, lon, address));
+        Future<WeatherService.WeatherInfo> weatherFuture =
+                fanOutExecutor.submit(() -> weatherService.getWeather(lat, lon));
+
+        // 2️⃣ 같은 기한 안에서 기다리고, 못 받은 쪽은 취소 후 기본값으로 대체 (degraded)
+        AirQualityResponse airQuality = await(airFuture, deadline, "대기질");
+        boolean airQualityDegraded = airQuality == null;
+        if (airQualityDegraded) {
+            airQuality = airQualityService.getMockAirQuality(lat, lon);
+        }
+
+        WeatherService.WeatherInfo weather = await(weatherFuture, deadline, "날씨");
+        boolean weatherDegraded = weather == null;
+        if (weatherDegraded) {
+            weather = weatherService.getMockWeather();
+        }
+
+        return buildResponse(airQuality, airQualityDegraded, weather, weatherDegraded);
+    }
+
+    /**
+     * 논블로킹 산책 적합도 계산
+     * 대기질은 메모리 스냅샷에서 바로 계산하고, 날씨는 WebClient로 비동기 조회한다.
+     * 스레드를 붙잡지 않으므로 동시에 많은 요청이 외부 API를 기다려도 스레드 수가 늘지 않는다.
+     * 구독이 취소되면(클라이언트 연결 종료) 진행 중인 기상청 요청도 취소된다.
+     */
+    public Mono<WalkingSuitabilityResponse> calculateSuitabilityReactive(double lat, double lon, String address) {
+        Duration deadline = Duration.ofMillis(deadlineMs);
+
+        Mono<Part<AirQualityResponse>> airQuality = airQualityReactive(lat, lon, address)
+                .map(value -> new Part<>(value, false))
+                .timeout(deadline)
+                .onErrorResume(e -> {
+                    logger.warn("대기질 조회 실패/기한 초과 → 기본값 사용: {}", e.toString());
+                    return Mono.fromSupplier(() -> new Part<>(airQualityService.getMockAirQuality(lat, lon), true));
+                });
+
+        Mono<Part<WeatherService.WeatherInfo>> weather = weatherService.getWeatherReactive(lat, lon)
+                .map(value -> new Part<>(value, false))
+                .timeout(deadline)
+                .onErrorResume(e -> {
+                    logger.warn("날씨 조회 실패/기한 초과 → 기본값 사용: {}", e.toString());
+                    return Mono.fromSupplier(() -> new Part<>(weatherService.getMockWeather(), true));
+                });
+
+        return Mono.zip(airQuality, weather)
+                .map(parts -> buildResponse(parts.getT1().value(), parts.getT1().degraded(),
+                        parts.getT2().value(), parts.getT2().degraded()));
+    }
+
+    private record Part<T>(T value, boolean degraded) {
+    }
+
+    /**
+     * 여러 위치 산책 적합도 일괄 계산
+     * 대기질은 시도별로, 날씨는 기상청 격자·발표시각별로 묶어 서로 다른 외부 조회를 한 번씩만 하고
+     * (같은 격자의 위치는 같은 날씨를 공유), 모두 같은 응답 기한 안에서 동시에 기다린다.
+     * 결과는 요청 순서와 같으며, 잘못된 좌표 등 항목별 실패는 해당 항목에만 error로 표시한다.
+     */
+    public SuitabilityBatchResponse calculateSuitabilityBatch(List<SuitabilityBatchLocation> locations) {
+        if (locations.size() > batchMaxSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + batchMaxSize + "개 위치까지 조회할 수 있습니다.");
+        }
+        return calculateBatch(locations);
+    }
+
+    /**
+     * 일괄 계산 (요청 크기 제한 없음 → 서버가 목록을 만드는 구독 푸시 등에서 사용)
+     */
+    SuitabilityBatchResponse calculateBatch(List<SuitabilityBatchLocation> locations) {
+        return calculateBatch(locations, false);
+    }
+
+    /**
+     * 메모리에 있는 값만으로 일괄 계산 (외부 호출 없음 → 찜 목록처럼 위치 수에 따라 기다리면 안 되는 곳에서 사용)
+     * 대기질은 스냅샷, 날씨는 격자 캐시에서만 찾고, 없는 쪽은 기본값으로 채워 degraded로 표시한다.
+     */
+    SuitabilityBatchResponse calculateCachedBatch(List<SuitabilityBatchLocation> locations) {
+        return calculateBatch(locations, true);
+    }
+
+    private SuitabilityBatchResponse calculateBatch(List<SuitabilityBatchLocation> locations, boolean cachedOnly) {
+        // 1️⃣ 좌표 검증 (잘못된 항목만 실패 처리)
+        SuitabilityBatchItem[] items = new SuitabilityBatchItem[locations.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<LocationQuery> queries = new ArrayList<>();
+        for (int i = 0; i < locations.size(); i++) {
+            SuitabilityBatchLocation location = locations.get(i);
+            String error = validate(location);
+            if (error != null) {
+                items[i] = new SuitabilityBatchItem(i, false, error, null);
+                continue;
+            }
+            indexes.add(i);
+            queries.add(new LocationQuery(location.getLat(), location.getLon(), location.getAddress()));
+        }
+
+        // 2️⃣ 날씨는 격자·발표시각별로 묶는다
+        double[] lats = new double[queries.size()];
+        double[] lons = new double[queries.size()];
+        for (int j = 0; j < queries.size(); j++) {
+            lats[j] = queries.get(j).lat();
+            lons[j] = queries.get(j).lon();
+        }
+        List<WeatherCache.Key> gridKeys = weatherService.nowcastKeys(lats, lons);
+
+        List<AirQualityResponse> airQualities;
+        Map<WeatherCache.Key, Part<WeatherService.WeatherInfo>> weathers = new HashMap<>();
+        if (cachedOnly) {
+            // 3️⃣ 스냅샷 / 날씨 캐시에서만 찾는다 (없으면 기본값, degraded)
+            airQualities = new ArrayList<>(queries.size());
+            for (LocationQuery query : queries) {
+                airQualities.add(findInSnapshot(query));
+            }
+            for (WeatherCache.Key key : gridKeys) {
+                weathers.computeIfAbsent(key, k -> {
+                    WeatherService.WeatherInfo cached = weatherService.findCached(k);
+                    return cached != null
+                            ? new Part<>(cached, false)
+                            : new Part<>(weatherService.getMockWeather(), true);
+                });
+            }
+        } else {
+            // 3️⃣ 대기질(시도별 묶음 조회) 1건 + 서로 다른 격자 수만큼 날씨 조회를 가상 스레드에서 동시에 시작
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+            Future<List<AirQualityResponse>> airFuture =
+                    fanOutExecutor.submit(() -> airQualityService.getAirQualityByLocations(queries));
+            Map<WeatherCache.Key, Future<WeatherService.WeatherInfo>> weatherFutures = new LinkedHashMap<>();
+            for (WeatherCache.Key key : gridKeys) {
+                if (!weatherFutures.containsKey(key)) {
+                    weatherFutures.put(key, fanOutExecutor.submit(() -> weatherService.getWeather(key)));
+                }
+            }
+
+            // 4️⃣ 같은 기한 안에서 기다리고, 못 받은 쪽은 기본값으로 대체 (degraded)
+            airQualities = await(airFuture, deadline, "대기질");
+            for (Map.Entry<WeatherCache.Key, Future<WeatherService.WeatherInfo>> entry : weatherFutures.entrySet()) {
+                WeatherService.WeatherInfo weather = await(entry.getValue(), deadline, "날씨");
+                weathers.put(entry.getKey(), weather != null
+                        ? new Part<>(weather, false)
+                        : new Part<>(weatherService.getMockWeather(), true));
+            }
+        }
 
-        WeatherService.WeatherInfo weather =
-                weatherService.getWeather(lat, lon);
+        // 5️⃣ 요청 순서대로 조립
+        Set<String> stations = new HashSet<>();
+        for (int j = 0; j < queries.size(); j++) {
+            int index = indexes.get(j);
+            LocationQuery query = queries.get(j);
+            try {
+                AirQualityResponse airQuality = airQualities != null ? airQualities.get(j) : null;
+                boolean airQualityDegraded = airQuality == null;
+                if (airQualityDegraded) {
+                    airQuality = airQualityService.getMockAirQuality(query.lat(), query.lon());
+                }
+                Part<WeatherService.WeatherInfo> weather = weathers.get(gridKeys.get(j));
+
+                items[index] = new SuitabilityBatchItem(index, true, null,
+                        buildResponse(airQuality, airQualityDegraded, weather.value(), weather.degraded()));
+                stations.add(airQuality.getStationName());
+            } catch (RuntimeException e) {
+                logger.warn("산책 적합도 계산 실패: lat={}, lon={}", query.lat(), query.lon(), e);
+                items[index] = new SuitabilityBatchItem(index, false, "산책 적합도 계산 중 오류가 발생했습니다: " + e.getMessage(), null);
+            }
+        }
+
+        int failed = 0;
+        for (SuitabilityBatchItem item : items) {
+            if (!item.isSuccess()) failed++;
+        }
+        logger.info("산책 적합도 일괄 계산{}: 요청={}, 실패={}, 측정소={}, 격자={}",
+                cachedOnly ? " (캐시만)" : "", locations.size(), failed, stations.size(), weathers.size());
+
+        return new SuitabilityBatchResponse(Arrays.asList(items), locations.size(), failed,
+                stations.size(), weathers.size());
+    }
+
+    private AirQualityResponse findInSnapshot(LocationQuery query) {
+        try {
+            return airQualityService.findInSnapshot(query.lat(), query.lon(), query.address());
+        } catch (RuntimeException e) {
+            logger.warn("대기질 스냅샷 조회 실패 → 기본값 사용: lat={}, lon={}", query.lat(), query.lon(), e);
+            return null;
+        }
+    }
+
+    private String validate(SuitabilityBatchLocation location) {
+        if (location == null || location.getLat() == null || location.getLon() == null) {
+            return "위도(lat)와 경도(lon)가 필요합니다.";
+        }
+        double lat = location.getLat();
+        double lon = location.getLon();
+        if (Double.isNaN(lat) || Double.isNaN(lon) || lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            return "올바르지 않은 좌표입니다: lat=" + lat + ", lon=" + lon;
+        }
+        return null;
+    }
+
+    /**
+     * 대기질: 스냅샷에 있으면 호출 스레드에서 바로 (외부 호출 없음),
+     * 기동 직후 스냅샷이 비어 있을 때만 블로킹 조회를 별도 스케줄러에서 실행
+     */
+    private Mono<AirQualityResponse> airQualityReactive(double lat, double lon, String address) {
+        return Mono.defer(() -> {
+            AirQualityResponse inMemory = airQualityService.findInSnapshot(lat, lon, address);
+            if (inMemory != null) {
+                return Mono.just(inMemory);
+            }
+            return Mono.fromCallable(() -> airQualityService.getAirQualityByLocation(lat, lon, address))
+                    .subscribeOn(Schedulers.boundedElastic());
+        });
+    }
+
+    private WalkingSuitabilityResponse buildResponse(AirQualityResponse airQuality, boolean airQualityDegraded,
+                                                     WeatherService.WeatherInfo weather, boolean weatherDegraded) {
+        // 기한 안에 받았더라도 서비스가 실패해 임의 값으로 채운 경우는 degraded (캐시 금지)
+        airQualityDegraded |= AirQualityService.MOCK_STATION_NAME.equals(airQuality.getStationName());
+        weatherDegraded |= weather.mock;
 
         int pm10 = airQuality.getPm10Value();
         int pm25 = airQuality.getPm25Value();
@@ -40,14 +294,42 @@ public class WalkingSuitabilityService {
         response.setSkyCondition(weather.skyCondition);
         response.setPrecipitation(weather.precipitation);
         response.setStatus(status);
+        response.setAirQualityDegraded(airQualityDegraded);
+        response.setWeatherDegraded(weatherDegraded);
+        if (airQualityDegraded || weatherDegraded) {
+            response.setMessage(degradedMessage(airQualityDegraded, weatherDegraded));
+        }
 
         return response;
     }
 
+    /**
+     * 기한까지 결과를 기다린다. 기한 초과/실패 시 작업을 취소(인터럽트)하고 null
+     */
+    private <T> T await(Future<T> future, long deadline, String source) {
+        try {
+            long remaining = deadline - System.nanoTime();
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("{} 조회가 응답 기한 {}ms 초과 → 기본값 사용", source, deadlineMs);
+        } catch (ExecutionException e) {
+            logger.warn("{} 조회 실패 → 기본값 사용", source, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("{} 조회 대기 중 인터럽트 → 기본값 사용", source);
+        }
+        future.cancel(true);
+        return null;
+    }
+
+    private String degradedMessage(boolean airQualityDegraded, boolean weatherDegraded) {
+        if (airQualityDegraded && weatherDegraded) {
+            return "대기질과 날씨 정보를 제때 받지 못해 기본값으로 표시합니다.";
+        }
+        return (airQualityDegraded ? "대기질" : "날씨") + " 정보를 제때 받지 못해 기본값으로 표시합니다.";
+    }
+
     private String determineStatus(int pm10, int pm25) {
-        if (pm10 > 150 || pm25 > 75) return "매우나쁨";
-        if (pm10 > 80 || pm25 > 35) return "나쁨";
-        if (pm10 > 30 || pm25 > 15) return "보통";
-        return "좋음";
+        return WalkingStatus.of(pm10, pm25).getLabel();
     }
 }
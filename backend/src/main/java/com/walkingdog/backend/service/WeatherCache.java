@@ -0,0 +1,145 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.KmaNowcast;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기상청 초단기실황 캐시 (격자 nx/ny + 발표시각 base_date/base_time 기준)
+ *
+ * 초단기실황은 매시 정시 자료가 40분경 올라오므로, 한 발표시각의 값은
+ * 다음 발표시각 자료가 나오는 시점(base + 1시간 40분)까지만 유효하다.
+ * 같은 5km 격자의 사용자는 같은 값을 받으므로 항목 수를 제한한 LRU로 보관한다.
+ */
+@Component
+public class WeatherCache {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BASE_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    // 다음 정시 자료가 나오기까지: 1시간 + 발표 지연 40분
+    static final Duration VALIDITY = Duration.ofMinutes(100);
+
+    public record Key(int nx, int ny, String baseDate, String baseTime) {
+    }
+
+    private record Entry(KmaNowcast value, Instant expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public WeatherCache(@Value("${weather.cache.max-entries:2000}") int maxEntries, MeterRegistry meterRegistry) {
+        this(maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * 만료 시각 테스트용 (시계 고정)
+     */
+    WeatherCache(int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        // accessOrder=true → get할 때마다 맨 뒤로, 가장 오래 안 쓴 항목이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > WeatherCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("weather.cache.requests")
+                .tag("result", "hit")
+                .description("초단기실황 캐시 적중")
+                .register(meterRegistry);
+        this.misses = Counter.builder("weather.cache.requests")
+                .tag("result", "miss")
+                .description("초단기실황 캐시 미적중 (기상청 호출)")
+                .register(meterRegistry);
+        Gauge.builder("weather.cache.size", this, WeatherCache::size)
+                .description("초단기실황 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유효한 값이 있으면 반환, 없거나 만료되었으면 null
+     */
+    public KmaNowcast get(Key key) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && now.isBefore(entry.expiresAt())) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(Key key, KmaNowcast value) {
+        Instant expiresAt = expiresAt(key);
+        if (!clock.instant().isBefore(expiresAt)) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(key, new Entry(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 해당 발표시각 다음 자료가 제공되는 시각 (KST)
+     */
+    static Instant expiresAt(Key key) {
+        LocalDateTime base = LocalDateTime.of(
+                LocalDate.parse(key.baseDate(), BASE_DATE_FORMAT),
+                LocalTime.parse(key.baseTime(), BASE_TIME_FORMAT));
+        return base.atZone(KST).toInstant().plus(VALIDITY);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+}
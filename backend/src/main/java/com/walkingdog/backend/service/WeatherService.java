@@ -1,35 +1,45 @@
 package com.walkingdog.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walkingdog.backend.client.KmaClient;
+import com.walkingdog.backend.client.KmaNowcast;
+import com.walkingdog.backend.client.ReactiveKmaClient;
+import com.walkingdog.backend.geo.KmaGridProjector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class WeatherService {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherService.class);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter BASE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BASE_TIME = DateTimeFormatter.ofPattern("HH00");
     private final Random random = new Random();
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${public.data.api.key:}")
-    private String apiKey;
-
-    public WeatherService() {
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+    private final KmaClient kmaClient;
+    private final ReactiveKmaClient reactiveKmaClient;
+    private final WeatherCache weatherCache;
+    private final ObservationHistoryService historyService;
+    private final ConcurrentHashMap<WeatherCache.Key, Mono<KmaNowcast>> inFlight = new ConcurrentHashMap<>();
+
+    public WeatherService(KmaClient kmaClient, ReactiveKmaClient reactiveKmaClient, WeatherCache weatherCache,
+                          ObservationHistoryService historyService) {
+        this.kmaClient = kmaClient;
+        this.reactiveKmaClient = reactiveKmaClient;
+        this.weatherCache = weatherCache;
+        this.historyService = historyService;
     }
 
     /**
@@ -41,11 +51,18 @@ public class WeatherService {
      */
     public WeatherInfo getWeather(double lat, double lon) {
         logger.info("날씨 정보 조회: lat={}, lon={}", lat, lon);
-        
+        return getWeather(nowcastKey(lat, lon));
+    }
+
+    /**
+     * 격자·발표시각 기준 날씨 조회
+     * 일괄 조회에서 같은 격자에 속한 위치들을 묶어 한 번만 조회할 때 사용한다.
+     */
+    public WeatherInfo getWeather(WeatherCache.Key key) {
         // 실제 API 호출 시도
         try {
-            if (apiKey != null && !apiKey.isEmpty() && !apiKey.contains("your-api-key")) {
-                WeatherInfo apiResponse = callWeatherApi(lat, lon);
+            if (kmaClient.isConfigured()) {
+                WeatherInfo apiResponse = callWeatherApi(key);
                 if (apiResponse != null) {
                     logger.info("실제 API 날씨 데이터 반환: 기온={}°C, 하늘={}", 
                         apiResponse.temperature, apiResponse.skyCondition);
@@ -63,148 +80,165 @@ public class WeatherService {
     /**
      * 실제 기상청 API 호출
      */
-    private WeatherInfo callWeatherApi(double lat, double lon) {
+    private WeatherInfo callWeatherApi(WeatherCache.Key key) {
         try {
-            GridCoordinate grid = convertToGrid(lat, lon);
+            // 같은 격자·발표시각이면 캐시된 값 사용
+            KmaNowcast nowcast = weatherCache.get(key);
+            if (nowcast == null) {
+                nowcast = kmaClient.fetchUltraSrtNcst(key.nx(), key.ny(), key.baseDate(), key.baseTime());
+                if (nowcast.isEmpty()) {
+                    logger.warn("기상청 API 응답에 데이터가 없습니다.");
+                    return null;
+                }
+                remember(key, nowcast);
+            }
+            return toWeatherInfo(nowcast);
 
-            LocalDateTime now = LocalDateTime.now().minusMinutes(40);
-            String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String baseTime = now.format(DateTimeFormatter.ofPattern("HH00"));
+        } catch (Exception e) {
+            logger.error("기상청 API 호출 중 오류", e);
+            return null;
+        }
+    }
 
-            String url = UriComponentsBuilder
-                    .fromUriString("http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtNcst")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("pageNo", 1)
-                    .queryParam("numOfRows", 100)
-                    .queryParam("dataType", "JSON")
-                    .queryParam("base_date", baseDate)
-                    .queryParam("base_time", baseTime)
-                    .queryParam("nx", grid.nx)
-                    .queryParam("ny", grid.ny)
-                    .build(false)   // ⭐ 이중 인코딩 방지
-                    .toUriString();
+    /**
+     * 논블로킹 날씨 조회 (WebClient)
+     * 캐시에 있으면 바로, 없으면 기상청을 비동기로 호출하고 실패 시 Mock 데이터로 대체한다.
+     * 같은 격자·발표시각 조회가 진행 중이면 그 결과를 함께 기다린다 (블로킹 경로의 SingleFlight와 같은 역할).
+     * 구독이 취소되어도 공유 조회는 끝까지 진행해 캐시를 채운다.
+     */
+    public Mono<WeatherInfo> getWeatherReactive(double lat, double lon) {
+        if (!kmaClient.isConfigured()) {
+            return Mono.fromSupplier(this::getMockWeather);
+        }
+        WeatherCache.Key key = nowcastKey(lat, lon);
+        KmaNowcast cached = weatherCache.get(key);
+        if (cached != null) {
+            return Mono.just(toWeatherInfo(cached));
+        }
+        return fetchShared(key)
+                .map(this::toWeatherInfo)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.warn("기상청 API 응답에 데이터가 없습니다.");
+                    return getMockWeather();
+                }))
+                .onErrorResume(e -> {
+                    logger.warn("API 호출 실패, Mock 데이터 사용: {}", e.getMessage());
+                    return Mono.fromSupplier(this::getMockWeather);
+                });
+    }
 
+    /**
+     * 격자·발표시각별 진행 중인 기상청 조회 (끝나면 목록에서 빠진다)
+     * 캐시/이력 기록은 파일 쓰기와 잠금이 있으므로 이벤트 루프가 아닌 boundedElastic에서 한다.
+     */
+    private Mono<KmaNowcast> fetchShared(WeatherCache.Key key) {
+        Mono<KmaNowcast> existing = inFlight.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        AtomicReference<Mono<KmaNowcast>> self = new AtomicReference<>();
+        Mono<KmaNowcast> shared = reactiveKmaClient.fetchUltraSrtNcst(key.nx(), key.ny(), key.baseDate(), key.baseTime())
+                .filter(nowcast -> !nowcast.isEmpty())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(nowcast -> remember(key, nowcast))
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        existing = inFlight.putIfAbsent(key, shared);
+        return existing != null ? existing : shared;
+    }
 
-            logger.debug("기상청 API URL: {}", url.replace(apiKey, "***"));
+    /**
+     * 캐시에 있는 값만 (기상청을 호출하지 않음), 없거나 만료되었으면 null
+     */
+    public WeatherInfo findCached(WeatherCache.Key key) {
+        KmaNowcast cached = weatherCache.get(key);
+        return cached != null ? toWeatherInfo(cached) : null;
+    }
 
-            String responseStr = restTemplate.getForObject(url, String.class);
+    /**
+     * 새로 받은 초단기실황을 캐시에 넣고 관측 이력에도 남긴다.
+     */
+    private void remember(WeatherCache.Key key, KmaNowcast nowcast) {
+        weatherCache.put(key, nowcast);
+        historyService.recordWeather(key, nowcast);
+    }
 
-            JsonNode body = objectMapper.readTree(responseStr)
-                    .path("response")
-                    .path("body");
+    /**
+     * 위경도 → 격자 + 현재 발표시각 (KST, 정시 자료는 40분 이후 제공)
+     */
+    public WeatherCache.Key nowcastKey(double lat, double lon) {
+        KmaGridProjector.GridPoint grid = KmaGridProjector.toGrid(lat, lon);
+        LocalDateTime base = currentBase();
+        return new WeatherCache.Key(grid.nx(), grid.ny(), base.format(BASE_DATE), base.format(BASE_TIME));
+    }
 
-            JsonNode items = body.path("items").path("item");
+    /**
+     * 여러 위치의 격자 + 발표시각 (일괄 조회용, 격자는 배열로 한 번에 변환하고 발표시각은 한 번만 계산)
+     */
+    public List<WeatherCache.Key> nowcastKeys(double[] lats, double[] lons) {
+        int[] nxs = new int[lats.length];
+        int[] nys = new int[lats.length];
+        KmaGridProjector.toGrid(lats, lons, nxs, nys);
+
+        LocalDateTime base = currentBase();
+        String baseDate = base.format(BASE_DATE);
+        String baseTime = base.format(BASE_TIME);
+        List<WeatherCache.Key> keys = new ArrayList<>(lats.length);
+        for (int i = 0; i < lats.length; i++) {
+            keys.add(new WeatherCache.Key(nxs[i], nys[i], baseDate, baseTime));
+        }
+        return keys;
+    }
 
-            if (!items.isArray() || items.isEmpty()) {
-                logger.warn("기상청 API 응답에 데이터가 없습니다.");
-                return null;
-            }
+    /**
+     * 지금 조회 가능한 가장 최근 초단기실황 발표시각 (KST, 모든 격자 공통)
+     */
+    static LocalDateTime currentBase() {
+        return LocalDateTime.now(KST).minusMinutes(40).truncatedTo(ChronoUnit.HOURS);
+    }
 
-            WeatherInfo weather = new WeatherInfo();
-
-            for (JsonNode item : items) {
-                String category = item.path("category").asText();
-                String obsValue = item.path("obsrValue").asText();
-
-                switch (category) {
-                    case "T1H":
-                        weather.temperature = obsValue;
-                        break;
-                    case "SKY":
-                        weather.skyCode = obsValue;
-                        weather.skyCondition = getSkyCondition(obsValue);
-                        break;
-                    case "PTY":
-                        weather.precipitationCode = obsValue;
-                        weather.precipitation = getPrecipitation(obsValue);
-                        break;
-                }
-            }
+    private WeatherInfo toWeatherInfo(KmaNowcast nowcast) {
+        WeatherInfo weather = new WeatherInfo();
 
-            if (weather.temperature == null) weather.temperature = "20";
-            if (weather.skyCondition == null) weather.skyCondition = "맑음";
-            if (weather.precipitation == null) weather.precipitation = "없음";
+        if (!Double.isNaN(nowcast.temperature())) {
+            weather.temperature = formatTemperature(nowcast.temperature());
+        }
+        if (nowcast.sky() != null) {
+            weather.skyCode = String.valueOf(nowcast.sky().getCode());
+            weather.skyCondition = nowcast.sky().getLabel();
+        }
+        if (nowcast.precipitation() != null) {
+            weather.precipitationCode = String.valueOf(nowcast.precipitation().getCode());
+            weather.precipitation = nowcast.precipitation().getLabel();
+        }
 
-            return weather;
+        if (weather.temperature == null) weather.temperature = "20";
+        if (weather.skyCondition == null) weather.skyCondition = "맑음";
+        if (weather.precipitation == null) weather.precipitation = "없음";
 
-        } catch (Exception e) {
-            logger.error("기상청 API 호출 중 오류", e);
-            return null;
-        }
+        return weather;
     }
 
-
     /**
-     * 위경도를 기상청 격자 좌표로 변환
+     * 기온 표기 (기상청 원문처럼 정수면 소수점 없이: 21, 21.3)
      */
-    private GridCoordinate convertToGrid(double lat, double lon) {
-        // 기상청 격자 좌표 변환 공식
-        double RE = 6371.00877; // 지구 반경(km)
-        double GRID = 5.0; // 격자 간격(km)
-        double SLAT1 = 30.0; // 투영 위도1(degree)
-        double SLAT2 = 60.0; // 투영 위도2(degree)
-        double OLON = 126.0; // 기준점 경도(degree)
-        double OLAT = 38.0; // 기준점 위도(degree)
-        double XO = 43; // 기준점 X좌표(GRID)
-        double YO = 136; // 기준점 Y좌표(GRID)
-
-        double DEGRAD = Math.PI / 180.0;
-        double RADDEG = 180.0 / Math.PI;
-
-        double re = RE / GRID;
-        double slat1 = SLAT1 * DEGRAD;
-        double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
-        double olat = OLAT * DEGRAD;
-
-        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
-        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
-        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-        ro = re * sf / Math.pow(ro, sn);
-
-        double ra = Math.tan(Math.PI * 0.25 + (lat) * DEGRAD * 0.5);
-        ra = re * sf / Math.pow(ra, sn);
-        double theta = lon * DEGRAD - olon;
-        if (theta > Math.PI) theta -= 2.0 * Math.PI;
-        if (theta < -Math.PI) theta += 2.0 * Math.PI;
-        theta *= sn;
-
-        int nx = (int)(ra * Math.sin(theta) + XO + 0.5);
-        int ny = (int)(ro - ra * Math.cos(theta) + YO + 0.5);
-
-        return new GridCoordinate(nx, ny);
-    }
-
-    private String getSkyCondition(String code) {
-        switch (code) {
-            case "1": return "맑음";
-            case "3": return "구름많음";
-            case "4": return "흐림";
-            default: return "맑음";
-        }
-    }
-
-    private String getPrecipitation(String code) {
-        switch (code) {
-            case "0": return "없음";
-            case "1": return "비";
-            case "2": return "비/눈";
-            case "3": return "눈";
-            case "4": return "소나기";
-            default: return "없음";
+    private String formatTemperature(double temperature) {
+        if (temperature == Math.rint(temperature)) {
+            return String.valueOf((long) temperature);
         }
+        return String.valueOf(temperature);
     }
 
     /**
-     * Mock 데이터 생성 (API 실패 시 사용)
+     * Mock 데이터 생성 (API 실패 시, 산책 적합도 응답 기한 초과 시 사용)
      */
-    private WeatherInfo getMockWeather() {
+    public WeatherInfo getMockWeather() {
         WeatherInfo info = new WeatherInfo();
         info.temperature = String.valueOf(15 + random.nextInt(15));
         info.skyCondition = getRandomSkyCondition();
         info.precipitation = "없음";
+        info.mock = true;
         
         logger.info("Mock 날씨 데이터 반환: 기온={}°C, 하늘={}, 강수={}", 
             info.temperature, info.skyCondition, info.precipitation);
@@ -217,21 +251,12 @@ public class WeatherService {
         return conditions[random.nextInt(conditions.length)];
     }
 
-    private static class GridCoordinate {
-        int nx;
-        int ny;
-        
-        GridCoordinate(int nx, int ny) {
-            this.nx = nx;
-            this.ny = ny;
-        }
-    }
-
     public static class WeatherInfo {
         public String temperature;
         public String skyCode;
         public String skyCondition;
         public String precipitationCode;
         public String precipitation;
+        public boolean mock;  // 기상청 값이 아닌 임의 값 (API 실패 / 키 없음 / 기한 초과)
     }
 }
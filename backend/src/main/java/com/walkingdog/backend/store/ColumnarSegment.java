@@ -0,0 +1,192 @@
+package com.walkingdog.backend.store;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 하루치 관측 행을 담는 고정 크기 열(column) 파일 (메모리 매핑)
+ *
+ * 파일 구성: 헤더 32바이트 + 열마다 capacity칸 배열
+ * <pre>
+ *   hour  int[capacity]    epoch hour (UTC 기준 1970-01-01T00:00부터의 시간 수)
+ *   key   int[capacity]    측정소/격자 번호
+ *   v1    short[capacity]
+ *   v2    short[capacity]
+ *   v3    byte[capacity]
+ * </pre>
+ * 한 행은 13바이트이고, 조회는 hour/key 열만 훑은 뒤 맞는 행의 값 열을 읽는다.
+ * 행은 뒤에 붙이기만 하며, 값 열을 모두 쓴 다음 헤더의 count를 올리므로
+ * 중간에 프로세스가 죽어도 count 이후의 반쯤 쓴 행은 무시된다.
+ *
+ * 쓰기는 TimeSeriesStore의 잠금 안에서 한 스레드만 한다. 읽기는 잠금 없이 count(volatile)까지만 읽고,
+ * 위치(position)를 바꾸지 않는 절대 위치 get만 쓰므로 여러 스레드가 같은 버퍼를 읽어도 된다.
+ */
+final class ColumnarSegment {
+
+    static final int MAGIC = 0x57445453; // "WDTS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int ROW_BYTES = 4 + 4 + 2 + 2 + 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int DAY_OFFSET = 16;
+
+    private final Path path;
+    private final int day;
+    private final int part;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+
+    private final int hourBase;
+    private final int keyBase;
+    private final int v1Base;
+    private final int v2Base;
+    private final int v3Base;
+
+    private volatile int count;
+
+    private ColumnarSegment(Path path, int day, int part, int capacity, MappedByteBuffer buffer, int count) {
+        this.path = path;
+        this.day = day;
+        this.part = part;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        this.count = count;
+        this.hourBase = HEADER_BYTES;
+        this.keyBase = hourBase + 4 * capacity;
+        this.v1Base = keyBase + 4 * capacity;
+        this.v2Base = v1Base + 2 * capacity;
+        this.v3Base = v2Base + 2 * capacity;
+    }
+
+    static long fileSize(int capacity) {
+        return HEADER_BYTES + (long) ROW_BYTES * capacity;
+    }
+
+    /**
+     * 새 파일을 전체 크기로 만들어 매핑 (아직 쓰지 않은 영역은 디스크를 차지하지 않는 sparse 파일)
+     */
+    static ColumnarSegment create(Path path, int day, int part, int capacity) throws IOException {
+        MappedByteBuffer buffer = map(path, fileSize(capacity),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(COUNT_OFFSET, 0);
+        buffer.putInt(DAY_OFFSET, day);
+        return new ColumnarSegment(path, day, part, capacity, buffer, 0);
+    }
+
+    /**
+     * 기존 파일 매핑, 헤더가 맞지 않으면 IOException
+     */
+    static ColumnarSegment open(Path path, int part) throws IOException {
+        long size = Files.size(path);
+        if (size < HEADER_BYTES) {
+            throw new IOException("세그먼트 헤더가 없습니다: " + path);
+        }
+        MappedByteBuffer buffer = map(path, size, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("세그먼트 형식이 다릅니다: " + path);
+        }
+        int capacity = buffer.getInt(CAPACITY_OFFSET);
+        int count = buffer.getInt(COUNT_OFFSET);
+        if (capacity <= 0 || size != fileSize(capacity) || count < 0 || count > capacity) {
+            throw new IOException("세그먼트 크기가 맞지 않습니다: " + path);
+        }
+        return new ColumnarSegment(path, buffer.getInt(DAY_OFFSET), part, capacity, buffer, count);
+    }
+
+    private static MappedByteBuffer map(Path path, long size, StandardOpenOption... options) throws IOException {
+        // 매핑은 채널을 닫아도 유지된다 (GC가 버퍼를 수거할 때 해제)
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * 한 행 추가 (호출 측이 쓰기 잠금을 잡고 있어야 한다)
+     */
+    void append(int hour, int key, short v1, short v2, byte v3) {
+        int row = count;
+        buffer.putInt(hourBase + 4 * row, hour);
+        buffer.putInt(keyBase + 4 * row, key);
+        buffer.putShort(v1Base + 2 * row, v1);
+        buffer.putShort(v2Base + 2 * row, v2);
+        buffer.put(v3Base + row, v3);
+        buffer.putInt(COUNT_OFFSET, row + 1);
+        count = row + 1;
+    }
+
+    /**
+     * key가 같고 hour가 [fromHour, toHour]인 행을 추가 순서대로 전달
+     */
+    void scan(int key, int fromHour, int toHour, TimeSeriesStore.RowVisitor visitor) {
+        int rows = count;
+        for (int row = 0; row < rows; row++) {
+            if (buffer.getInt(keyBase + 4 * row) != key) {
+                continue;
+            }
+            int hour = buffer.getInt(hourBase + 4 * row);
+            if (hour < fromHour || hour > toHour) {
+                continue;
+            }
+            visitor.accept(hour,
+                    buffer.getShort(v1Base + 2 * row),
+                    buffer.getShort(v2Base + 2 * row),
+                    buffer.get(v3Base + row));
+        }
+    }
+
+    /**
+     * 재기동 시 key별 마지막 시각 복원용: 모든 (hour, key) 전달
+     */
+    void scanKeys(KeyHourVisitor visitor) {
+        int rows = count;
+        for (int row = 0; row < rows; row++) {
+            visitor.accept(buffer.getInt(keyBase + 4 * row), buffer.getInt(hourBase + 4 * row));
+        }
+    }
+
+    interface KeyHourVisitor {
+        void accept(int key, int hour);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getDay() {
+        return day;
+    }
+
+    int getPart() {
+        return part;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
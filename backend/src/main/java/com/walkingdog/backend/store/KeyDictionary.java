@@ -0,0 +1,105 @@
+package com.walkingdog.backend.store;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 문자열 key(예: "서울|중구") ↔ 정수 번호 사전, 한 줄에 "번호\tkey"로 뒤에 붙이기만 한다.
+ * 세그먼트에는 번호만 저장하므로 번호는 한 번 정해지면 바뀌지 않는다.
+ */
+public final class KeyDictionary implements AutoCloseable {
+
+    private final Path path;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final BufferedWriter writer;
+    private int nextId;  // 쓰기 잠금 안에서만 증가
+
+    public KeyDictionary(Path path) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        boolean partialLastLine = false;
+        if (Files.exists(path)) {
+            String content = Files.readString(path, StandardCharsets.UTF_8);
+            partialLastLine = !content.isEmpty() && !content.endsWith("\n");
+            List<String> lines = content.lines().toList();
+            for (String line : lines) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue; // 마지막 줄이 쓰다 만 경우
+                }
+                try {
+                    int id = Integer.parseInt(line.substring(0, tab));
+                    ids.put(line.substring(tab + 1), id);
+                    nextId = Math.max(nextId, id + 1);
+                } catch (NumberFormatException e) {
+                    // 깨진 줄은 무시
+                }
+            }
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (partialLastLine) {
+            writer.newLine();
+            writer.flush();
+        }
+    }
+
+    /**
+     * key의 번호, 처음 보는 key면 새 번호를 붙여 파일에 기록
+     */
+    public int idOf(String key) throws IOException {
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        writeLock.lock();
+        try {
+            id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+            int newId = nextId++;
+            writer.write(newId + "\t" + key);
+            writer.newLine();
+            writer.flush();
+            ids.put(key, newId);
+            return newId;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 이미 있는 key의 번호, 없으면 -1 (조회용, 파일에 쓰지 않는다)
+     */
+    public int find(String key) {
+        return ids.getOrDefault(key, -1);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            writer.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.walkingdog.backend.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시간 단위 관측값을 뒤에 붙이기만 하는 시계열 저장소 (DB 없이 파일 + 메모리 매핑)
+ *
+ * 하루(KST)마다 세그먼트 파일 하나({name}-yyyyMMdd-{part}.col)를 두고, 꽉 차면 part를 늘려 새 파일을 만든다.
+ * 행은 (시각, key, v1, v2, v3) 고정 폭이며 값의 의미는 쓰는 쪽이 정한다.
+ * key마다 이미 저장한 시각 이후의 행만 받으므로 같은 자료를 여러 번 넘겨도 중복 저장되지 않고,
+ * 같은 key의 행은 항상 시각 순서로 쌓인다.
+ * 보존 기간은 일 단위로 오래된 세그먼트 파일을 통째로 지워서 적용한다.
+ */
+public final class TimeSeriesStore implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeSeriesStore.class);
+
+    private static final int KST_OFFSET_HOURS = 9;
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 조회 결과 한 행
+     */
+    public interface RowVisitor {
+        void accept(int epochHour, short v1, short v2, byte v3);
+    }
+
+    private final Path directory;
+    private final String name;
+    private final int segmentCapacity;
+    private final Pattern fileNamePattern;
+
+    // KST epoch day → 그날의 세그먼트들 (part 순서)
+    private final ConcurrentSkipListMap<Integer, List<ColumnarSegment>> segmentsByDay = new ConcurrentSkipListMap<>();
+    // key → 마지막으로 저장한 시각 (쓰기 잠금 안에서만 접근)
+    private final Map<Integer, Integer> lastHourByKey = new HashMap<>();
+    // synchronized 대신 ReentrantLock: 가상 스레드가 기다려도 캐리어 스레드를 붙잡지 않는다
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public TimeSeriesStore(Path directory, String name, int segmentCapacity) throws IOException {
+        if (segmentCapacity <= 0) {
+            throw new IllegalArgumentException("segmentCapacity는 1 이상이어야 합니다: " + segmentCapacity);
+        }
+        this.directory = directory;
+        this.name = name;
+        this.segmentCapacity = segmentCapacity;
+        this.fileNamePattern = Pattern.compile(Pattern.quote(name) + "-(\\d{8})-(\\d+)\\.col");
+        Files.createDirectories(directory);
+        openExisting();
+    }
+
+    /**
+     * 디렉터리에 남아 있는 세그먼트를 다시 매핑하고 key별 마지막 시각을 복원
+     */
+    private void openExisting() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, name + "-*.col")) {
+            for (Path file : files) {
+                Matcher matcher = fileNamePattern.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                try {
+                    ColumnarSegment segment = ColumnarSegment.open(file, Integer.parseInt(matcher.group(2)));
+                    segmentsByDay.computeIfAbsent(segment.getDay(), day -> new CopyOnWriteArrayList<>()).add(segment);
+                } catch (IOException e) {
+                    logger.warn("세그먼트를 읽을 수 없어 건너뜀: {} ({})", file, e.getMessage());
+                }
+            }
+        }
+        for (List<ColumnarSegment> segments : segmentsByDay.values()) {
+            segments.sort((a, b) -> Integer.compare(a.getPart(), b.getPart()));
+            for (ColumnarSegment segment : segments) {
+                segment.scanKeys((key, hour) -> lastHourByKey.merge(key, hour, Math::max));
+            }
+        }
+        if (!segmentsByDay.isEmpty()) {
+            logger.info("시계열 저장소 [{}] 복원: 세그먼트 {}개, 행 {}개, key {}개",
+                    name, segmentCount(), getRowCount(), lastHourByKey.size());
+        }
+    }
+
+    /**
+     * 한 행 저장, 이 key에 같은 시각 또는 더 최근 행이 이미 있으면 저장하지 않고 false
+     */
+    public boolean append(int epochHour, int key, short v1, short v2, byte v3) throws IOException {
+        writeLock.lock();
+        try {
+            Integer lastHour = lastHourByKey.get(key);
+            if (lastHour != null && epochHour <= lastHour) {
+                return false;
+            }
+            writableSegment(dayOf(epochHour)).append(epochHour, key, v1, v2, v3);
+            lastHourByKey.put(key, epochHour);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private ColumnarSegment writableSegment(int day) throws IOException {
+        List<ColumnarSegment> segments = segmentsByDay.computeIfAbsent(day, d -> new CopyOnWriteArrayList<>());
+        if (!segments.isEmpty()) {
+            ColumnarSegment last = segments.get(segments.size() - 1);
+            if (!last.isFull()) {
+                return last;
+            }
+        }
+        int part = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).getPart() + 1;
+        Path path = directory.resolve(fileName(day, part));
+        ColumnarSegment segment = ColumnarSegment.create(path, day, part, segmentCapacity);
+        segments.add(segment);
+        logger.debug("시계열 세그먼트 생성: {}", path);
+        return segment;
+    }
+
+    /**
+     * key의 [fromHour, toHour] 구간 행을 시각 순서로 전달 (잠금 없이 읽는다)
+     */
+    public void query(int key, int fromHour, int toHour, RowVisitor visitor) {
+        if (fromHour > toHour) {
+            return;
+        }
+        for (List<ColumnarSegment> segments : segmentsByDay.subMap(dayOf(fromHour), true, dayOf(toHour), true).values()) {
+            for (ColumnarSegment segment : segments) {
+                segment.scan(key, fromHour, toHour, visitor);
+            }
+        }
+    }
+
+    /**
+     * epochHour가 속한 날보다 이전 날의 세그먼트 파일 삭제, 지운 파일 수 반환
+     */
+    public int deleteBefore(int epochHour) {
+        int cutoffDay = dayOf(epochHour);
+        int deleted = 0;
+        writeLock.lock();
+        try {
+            Map<Integer, List<ColumnarSegment>> expired = segmentsByDay.headMap(cutoffDay, false);
+            for (Integer day : new ArrayList<>(expired.keySet())) {
+                // 목록에서 먼저 빼고 파일을 지운다 (이미 읽고 있던 조회는 매핑이 남아 있어 끝까지 읽는다)
+                List<ColumnarSegment> segments = segmentsByDay.remove(day);
+                for (ColumnarSegment segment : segments) {
+                    try {
+                        Files.deleteIfExists(segment.getPath());
+                        deleted++;
+                    } catch (IOException e) {
+                        logger.warn("오래된 세그먼트 삭제 실패: {} ({})", segment.getPath(), e.getMessage());
+                    }
+                }
+            }
+            int cutoffHour = cutoffDay * 24 - KST_OFFSET_HOURS;
+            lastHourByKey.values().removeIf(hour -> hour < cutoffHour);
+        } finally {
+            writeLock.unlock();
+        }
+        return deleted;
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 기록
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            for (List<ColumnarSegment> segments : segmentsByDay.values()) {
+                for (ColumnarSegment segment : segments) {
+                    segment.force();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    public long getRowCount() {
+        long rows = 0;
+        for (List<ColumnarSegment> segments : segmentsByDay.values()) {
+            for (ColumnarSegment segment : segments) {
+                rows += segment.getCount();
+            }
+        }
+        return rows;
+    }
+
+    public int segmentCount() {
+        int count = 0;
+        for (List<ColumnarSegment> segments : segmentsByDay.values()) {
+            count += segments.size();
+        }
+        return count;
+    }
+
+    /**
+     * 파일이 차지하는 크기 (sparse 파일이라 실제 디스크 사용량은 채운 행만큼)
+     */
+    public long getMappedBytes() {
+        long bytes = 0;
+        for (List<ColumnarSegment> segments : segmentsByDay.values()) {
+            for (ColumnarSegment segment : segments) {
+                bytes += ColumnarSegment.fileSize(segment.getCapacity());
+            }
+        }
+        return bytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * epoch hour → KST 기준 epoch day
+     */
+    static int dayOf(int epochHour) {
+        return Math.floorDiv(epochHour + KST_OFFSET_HOURS, 24);
+    }
+
+    private String fileName(int day, int part) {
+        return name + "-" + LocalDate.ofEpochDay(day).format(DAY_FORMAT) + "-" + part + ".col";
+    }
+}
@@ -2,43 +2,150 @@ package com.walkingdog.backend.util;
 
 import org.locationtech.proj4j.*;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WGS84(EPSG:4326) ↔ TM(EPSG:5179) 좌표 변환
+ *
+ * proj4j의 CoordinateTransform은 변환 중 내부 좌표 객체를 고쳐 쓰므로 여러 스레드가 하나를 같이 쓰면
+ * 결과가 섞인다. 변환기를 잠금 없는 풀에 두고 호출마다 빌려 쓴다 (모자라면 새로 만든다).
+ * 요청마다 새 가상 스레드가 생기므로 ThreadLocal보다 풀이 재사용률이 높다.
+ * 측정소 목록처럼 좌표가 많으면 배열 API로 변환기 하나를 빌려 한 번에 변환한다.
+ */
 public class CoordinateUtil {
 
-    private static CRSFactory factory;
-    private static CoordinateTransform transform;
-    private static CoordinateTransform reverseTransform;
-    
-    private static synchronized void init() {
-        if (factory == null) {
+    // 동시에 쓰는 스레드 수보다 많이 쌓아 둘 필요는 없다
+    private static final int MAX_POOLED = 64;
+
+    private static final ConcurrentLinkedQueue<Transformer> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED = new AtomicInteger();
+
+    /**
+     * 좌표계는 클래스 최초 사용 시 한 번만 만든다 (holder idiom)
+     * JVM 클래스 초기화가 동시성을 보장하므로 synchronized 없이 지연 초기화된다.
+     * (synchronized 블록 안에서 오래 걸리는 초기화는 가상 스레드를 캐리어 스레드에 고정시킨다)
+     */
+    private static final class Holder {
+        private static final CoordinateReferenceSystem WGS84;
+        private static final CoordinateReferenceSystem TM;
+
+        static {
             try {
-                factory = new CRSFactory();
-                transform = new CoordinateTransformFactory().createTransform(
-                        factory.createFromName("EPSG:4326"),
-                        factory.createFromName("EPSG:5179")
-                );
-                reverseTransform = new CoordinateTransformFactory().createTransform(
-                        factory.createFromName("EPSG:5179"),
-                        factory.createFromName("EPSG:4326")
-                );
+                CRSFactory factory = new CRSFactory();
+                WGS84 = factory.createFromName("EPSG:4326");
+                TM = factory.createFromName("EPSG:5179");
             } catch (Exception e) {
                 throw new RuntimeException("좌표 변환 초기화 실패", e);
             }
         }
     }
 
+    /**
+     * 한 스레드가 빌려 쓰는 변환기 묶음 (정/역변환 + 입출력 좌표 재사용)
+     */
+    private static final class Transformer {
+        final CoordinateTransform forward;
+        final CoordinateTransform reverse;
+        final ProjCoordinate src = new ProjCoordinate();
+        final ProjCoordinate dst = new ProjCoordinate();
+
+        Transformer() {
+            CoordinateTransformFactory factory = new CoordinateTransformFactory();
+            this.forward = factory.createTransform(Holder.WGS84, Holder.TM);
+            this.reverse = factory.createTransform(Holder.TM, Holder.WGS84);
+        }
+    }
+
+    private static Transformer borrow() {
+        Transformer transformer = POOL.poll();
+        if (transformer != null) {
+            POOLED.decrementAndGet();
+            return transformer;
+        }
+        return new Transformer();
+    }
+
+    private static void release(Transformer transformer) {
+        if (POOLED.incrementAndGet() <= MAX_POOLED) {
+            POOL.offer(transformer);
+        } else {
+            POOLED.decrementAndGet();
+        }
+    }
+
+    /**
+     * 위경도 → TM, {x, y}
+     */
     public static double[] toTM(double lat, double lon) {
-        init();
-        ProjCoordinate src = new ProjCoordinate(lon, lat);
-        ProjCoordinate dst = new ProjCoordinate();
-        transform.transform(src, dst);
-        return new double[]{dst.x, dst.y};
+        Transformer transformer = borrow();
+        try {
+            transformer.src.x = lon;
+            transformer.src.y = lat;
+            transformer.forward.transform(transformer.src, transformer.dst);
+            return new double[]{transformer.dst.x, transformer.dst.y};
+        } finally {
+            release(transformer);
+        }
     }
-    
+
+    /**
+     * TM → 위경도, {lat, lon}
+     */
     public static double[] toWGS84(double tmX, double tmY) {
-        init();
-        ProjCoordinate src = new ProjCoordinate(tmX, tmY);
-        ProjCoordinate dst = new ProjCoordinate();
-        reverseTransform.transform(src, dst);
-        return new double[]{dst.y, dst.x}; // lat, lon 순서로 반환
+        Transformer transformer = borrow();
+        try {
+            transformer.src.x = tmX;
+            transformer.src.y = tmY;
+            transformer.reverse.transform(transformer.src, transformer.dst);
+            return new double[]{transformer.dst.y, transformer.dst.x}; // lat, lon 순서로 반환
+        } finally {
+            release(transformer);
+        }
+    }
+
+    /**
+     * 위경도 배열 → TM 배열 (출력 배열이 입력 배열과 같아도 된다)
+     */
+    public static void toTM(double[] lats, double[] lons, double[] tmXs, double[] tmYs) {
+        checkLengths(lats, lons, tmXs, tmYs);
+        Transformer transformer = borrow();
+        try {
+            for (int i = 0; i < lats.length; i++) {
+                transformer.src.x = lons[i];
+                transformer.src.y = lats[i];
+                transformer.forward.transform(transformer.src, transformer.dst);
+                tmXs[i] = transformer.dst.x;
+                tmYs[i] = transformer.dst.y;
+            }
+        } finally {
+            release(transformer);
+        }
+    }
+
+    /**
+     * TM 배열 → 위경도 배열 (출력 배열이 입력 배열과 같아도 된다)
+     */
+    public static void toWGS84(double[] tmXs, double[] tmYs, double[] lats, double[] lons) {
+        checkLengths(tmXs, tmYs, lats, lons);
+        Transformer transformer = borrow();
+        try {
+            for (int i = 0; i < tmXs.length; i++) {
+                transformer.src.x = tmXs[i];
+                transformer.src.y = tmYs[i];
+                transformer.reverse.transform(transformer.src, transformer.dst);
+                lats[i] = transformer.dst.y;
+                lons[i] = transformer.dst.x;
+            }
+        } finally {
+            release(transformer);
+        }
+    }
+
+    private static void checkLengths(double[] a, double[] b, double[] c, double[] d) {
+        if (a.length != b.length || a.length != c.length || a.length != d.length) {
+            throw new IllegalArgumentException("좌표 배열 길이가 서로 다릅니다: "
+                    + a.length + ", " + b.length + ", " + c.length + ", " + d.length);
+        }
     }
 }
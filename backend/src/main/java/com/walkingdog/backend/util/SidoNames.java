@@ -0,0 +1,62 @@
+package com.walkingdog.backend.util;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에어코리아 시도명 (sidoName 파라미터 값) 유틸
+ */
+public class SidoNames {
+
+    public static final List<String> ALL = List.of(
+            "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주"
+    );
+
+    // 정식 명칭 → 에어코리아 시도명
+    private static final Map<String, String> FULL_NAMES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주")
+    );
+
+    /**
+     * 시도 명칭(정식/약칭) → 에어코리아 시도명, 알 수 없으면 null
+     */
+    public static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (ALL.contains(trimmed)) {
+            return trimmed;
+        }
+        return FULL_NAMES.get(trimmed);
+    }
+
+    /**
+     * 주소 첫 토큰에서 시도명 추출 (예: "서울 중구 덕수궁길 15" → "서울")
+     */
+    public static String fromAddress(String addr) {
+        if (addr == null || addr.isBlank()) {
+            return null;
+        }
+        return normalize(addr.trim().split("\\s+")[0]);
+    }
+}
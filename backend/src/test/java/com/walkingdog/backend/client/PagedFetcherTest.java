@@ -0,0 +1,110 @@
+package com.walkingdog.backend.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PagedFetcherTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final PagedFetcher fetcher = new PagedFetcher(executor);
+    private final Set<Integer> requestedPages = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    /**
+     * totalCount개를 PAGE_SIZE씩 나눈 가짜 API, 뒤 페이지일수록 먼저 응답한다
+     */
+    private PagedFetcher.PageLoader<String> upstream(int totalCount) {
+        return pageNo -> {
+            requestedPages.add(pageNo);
+            try {
+                Thread.sleep(Math.max(0, 30 - pageNo * 5L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<String> items = new ArrayList<>();
+            for (int i = (pageNo - 1) * PAGE_SIZE; i < Math.min(pageNo * PAGE_SIZE, totalCount); i++) {
+                items.add("측정소-" + i);
+            }
+            return new Page<>(items, totalCount);
+        };
+    }
+
+    @Test
+    void mergesAllPagesInPageOrder() throws Exception {
+        List<String> rows = fetcher.fetchAllBlocking(PAGE_SIZE, upstream(43));
+
+        assertThat(rows).hasSize(43);
+        assertThat(rows.get(0)).isEqualTo("측정소-0");
+        assertThat(rows.get(42)).isEqualTo("측정소-42");
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i)).isEqualTo("측정소-" + i);
+        }
+        assertThat(requestedPages).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+        assertThatThrownBy(() -> rows.add("추가")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void singlePageOrEmptyResultLoadsOnlyTheFirstPage() throws Exception {
+        assertThat(fetcher.fetchAllBlocking(PAGE_SIZE, upstream(7))).hasSize(7);
+        assertThat(fetcher.fetchAllBlocking(PAGE_SIZE, upstream(0))).isEmpty();
+        assertThat(requestedPages).containsExactly(1);
+    }
+
+    @Test
+    void stopsAtMaxPagesWhenTotalCountIsHuge() throws Exception {
+        int totalCount = (PagedFetcher.MAX_PAGES + 30) * PAGE_SIZE;
+
+        List<String> rows = fetcher.fetchAllBlocking(PAGE_SIZE, upstream(totalCount));
+
+        assertThat(rows).hasSize(PagedFetcher.MAX_PAGES * PAGE_SIZE);
+        assertThat(rows.get(rows.size() - 1)).isEqualTo("측정소-" + (PagedFetcher.MAX_PAGES * PAGE_SIZE - 1));
+        assertThat(requestedPages).hasSize(PagedFetcher.MAX_PAGES)
+                .allSatisfy(pageNo -> assertThat(pageNo).isBetween(1, PagedFetcher.MAX_PAGES));
+    }
+
+    @Test
+    void failureOfOnePageFailsTheWholeFetch() {
+        PagedFetcher.PageLoader<String> pages = upstream(35);
+        PagedFetcher.PageLoader<String> flaky = pageNo -> {
+            if (pageNo == 3) {
+                throw new IOException("HTTP 502 (page 3)");
+            }
+            return pages.load(pageNo);
+        };
+
+        assertThatThrownBy(() -> fetcher.fetchAllBlocking(PAGE_SIZE, flaky))
+                .isInstanceOf(IOException.class)
+                .hasMessage("HTTP 502 (page 3)");
+        assertThatThrownBy(() -> fetcher.fetchAll(PAGE_SIZE, flaky).join())
+                .isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void failureOfTheFirstPageSkipsTheRest() {
+        assertThatThrownBy(() -> fetcher.fetchAllBlocking(PAGE_SIZE, pageNo -> {
+            requestedPages.add(pageNo);
+            throw new IllegalStateException("응답 형식 오류");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("응답 형식 오류");
+        assertThat(requestedPages).containsExactly(1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.walkingdog.backend.client;
+
+import com.walkingdog.backend.support.FakePublicDataServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가짜 공공데이터 서버로 클라이언트 전체 경로(URL 조립 → 페이지 나누기 → 디코딩)를 네트워크 없이 확인
+ */
+class PublicDataClientOfflineTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static FakePublicDataServer upstream;
+    private static ExecutorService executor;
+
+    private AirKoreaClient airKoreaClient;
+    private KmaClient kmaClient;
+
+    @BeforeAll
+    static void startUpstream() throws Exception {
+        upstream = FakePublicDataServer.builder().start();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+        executor.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        upstream.resetRequestCounts();
+        upstream.setErrorRate(0);
+        upstream.setQuotaErrorRate(0);
+
+        PagedFetcher pagedFetcher = new PagedFetcher(executor);
+        airKoreaClient = new AirKoreaClient(new RestTemplate(), pagedFetcher, new SimpleMeterRegistry());
+        configure(airKoreaClient, upstream.getAirKoreaBaseUrl());
+        kmaClient = new KmaClient(new RestTemplate(), pagedFetcher, new SimpleMeterRegistry());
+        configure(kmaClient, upstream.getKmaBaseUrl());
+    }
+
+    private static void configure(Object client, String baseUrl) {
+        ReflectionTestUtils.setField(client, "apiKey", "offline-test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(client, "pageSize", PAGE_SIZE);
+    }
+
+    @Test
+    void fetchesEveryStationPageAndDropsStationsWithoutCoordinates() throws Exception {
+        List<StationRecord> stations = airKoreaClient.fetchStations();
+
+        // fixture 47개 중 좌표 없는 1개 제외, 10개씩 5페이지
+        assertThat(stations).hasSize(46);
+        assertThat(stations).allSatisfy(station -> assertThat(station.lat()).isBetween(33.0, 39.0));
+        assertThat(upstream.getRequestCount(FakePublicDataServer.STATIONS)).isEqualTo(5);
+    }
+
+    @Test
+    void realtimeIsFilteredBySidoAndKeepsMissingValuesAsZero() throws Exception {
+        List<AirMeasurement> seoul = airKoreaClient.fetchRealtimeBySido("서울");
+
+        assertThat(seoul).hasSize(5);
+        assertThat(seoul).allSatisfy(row -> assertThat(row.dataTime()).matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:00"));
+        AirMeasurement jongno = seoul.stream()
+                .filter(row -> row.stationName().equals("종로구"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(jongno.pm10Value()).isZero();
+        assertThat(jongno.pm25Value()).isZero();
+    }
+
+    @Test
+    void nowcastEchoesRequestedGridAndBaseTime() throws Exception {
+        KmaNowcast nowcast = kmaClient.fetchUltraSrtNcst(60, 127, "20261018", "1400");
+
+        assertThat(nowcast.temperature()).isEqualTo(18.7);
+        assertThat(nowcast.precipitation()).isEqualTo(PrecipitationType.NONE);
+        assertThat(upstream.getRequestCount(FakePublicDataServer.NOWCAST)).isEqualTo(1);
+    }
+
+    @Test
+    void injectedFailuresSurfaceAsClientErrors() {
+        upstream.setErrorRate(1.0);
+        assertThatThrownBy(() -> airKoreaClient.fetchRealtimeBySido("부산")).isInstanceOf(Exception.class);
+
+        upstream.setErrorRate(0);
+        upstream.setQuotaErrorRate(1.0);
+        assertThatThrownBy(() -> kmaClient.fetchUltraSrtNcst(98, 76, "20261018", "1400"))
+                .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    void latencyIsAppliedPerPage() throws Exception {
+        upstream.setLatency(Duration.ofMillis(100), Duration.ZERO);
+        try {
+            long startedAt = System.nanoTime();
+            kmaClient.fetchUltraSrtNcst(55, 124, "20261018", "1400");
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        } finally {
+            upstream.setLatency(Duration.ZERO, Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.walkingdog.backend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> flight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flight = new SingleFlight<>("test", meterRegistry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double collapsed() {
+        return meterRegistry.get("upstream.singleflight.collapsed").counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("upstream.singleflight.in-flight").gauge().value();
+    }
+
+    /**
+     * 첫 호출이 call 안에서 멈춘 동안 나머지 호출이 모두 합류할 때까지 기다린다
+     */
+    private List<Future<String>> startBlockedCalls(SingleFlight.Call<String> call, CountDownLatch started)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flight.execute("서울", call)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < WAITERS; i++) {
+            results.add(executor.submit(() -> flight.execute("서울", call)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsed() < WAITERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(collapsed()).isEqualTo(WAITERS - 1);
+        return results;
+    }
+
+    @Test
+    void concurrentCallsForTheSameKeyShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startBlockedCalls(() -> {
+            executions.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "PM10 42";
+        }, started);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("PM10 42");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(inFlight()).isZero();
+
+        // 끝난 키는 캐시하지 않는다 → 다음 호출은 다시 실행
+        assertThat(flight.execute("서울", () -> "PM10 43")).isEqualTo("PM10 43");
+        assertThat(flight.execute("부산", () -> "PM10 10")).isEqualTo("PM10 10");
+    }
+
+    @Test
+    void failurePropagatesToEveryWaiterAndClearsTheKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startBlockedCalls(() -> {
+            started.countDown();
+            release.await();
+            throw new IOException("HTTP 503");
+        }, started);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(IOException.class).hasMessage("HTTP 503");
+        }
+        assertThat(inFlight()).isZero();
+        assertThat(flight.execute("서울", () -> "복구")).isEqualTo("복구");
+    }
+
+    @Test
+    void errorIsPropagatedInsteadOfLeavingTheKeyInFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startBlockedCalls(() -> {
+            started.countDown();
+            release.await();
+            throw new StackOverflowError("깊은 재귀");
+        }, started);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(StackOverflowError.class);
+        }
+        assertThat(inFlight()).isZero();
+        // 예전에는 완료되지 않은 future가 남아 같은 키의 다음 호출이 영원히 기다렸다
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThat(flight.execute("서울", () -> "복구")).isEqualTo("복구"));
+    }
+
+    @Test
+    void asyncCallersShareTheCallButNotCancellation() throws Exception {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<String> first = flight.executeAsync("서울", () -> {
+            executions.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = flight.executeAsync("서울", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("다른 값");
+        });
+
+        first.cancel(true);
+        upstream.complete("PM2.5 15");
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("PM2.5 15");
+        assertThat(executions).hasValue(1);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void asyncSupplierFailureCompletesTheFutureAndClearsTheKey() {
+        CompletableFuture<String> failed = flight.executeAsync("서울", () -> {
+            throw new IllegalStateException("요청 조립 실패");
+        });
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThatThrownBy(() -> flight.executeAsync("서울", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(inFlight()).isZero();
+        assertThat(flight.executeAsync("서울", () -> CompletableFuture.completedFuture("복구")))
+                .isCompletedWithValue("복구");
+    }
+}
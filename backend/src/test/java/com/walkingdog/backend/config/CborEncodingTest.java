@@ -0,0 +1,87 @@
+package com.walkingdog.backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import com.walkingdog.backend.dto.AirQualityResponse;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import com.walkingdog.backend.service.WalkingStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR 응답 인코딩 확인 + JSON 대비 크기 비교
+ * 직렬화·파싱 시간은 src/jmh의 CborEncodingBenchmark에서 잰다.
+ */
+class CborEncodingTest {
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = CborConfig.compactCborMapper();
+
+    @Test
+    void labelsAreWrittenAsSmallIntegers() throws Exception {
+        JsonNode suitability = cbor.readTree(cbor.writeValueAsBytes(suitability(0)));
+        assertThat(suitability.get("status").intValue()).isEqualTo(WalkingStatus.BAD.getCode());
+        assertThat(suitability.get("skyCondition").intValue()).isEqualTo(SkyCode.MOSTLY_CLOUDY.getCode());
+        assertThat(suitability.get("precipitation").intValue()).isEqualTo(PrecipitationType.RAIN_SNOW.getCode());
+        assertThat(suitability.has("statusCode")).isFalse();
+        assertThat(suitability.has("message")).isFalse();
+
+        JsonNode air = cbor.readTree(cbor.writeValueAsBytes(airQuality("-")));
+        assertThat(air.get("khaiGrade").intValue()).isZero();
+    }
+
+    @Test
+    void unknownLabelsAreKeptAsText() throws Exception {
+        WalkingSuitabilityResponse response = suitability(0);
+        response.setSkyCondition("황사");
+        JsonNode node = cbor.readTree(cbor.writeValueAsBytes(response));
+        assertThat(node.get("skyCondition").textValue()).isEqualTo("황사");
+    }
+
+    @Test
+    void cborIsSmallerThanJson() throws Exception {
+        List<WalkingSuitabilityResponse> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(suitability(i));
+        }
+        WalkingSuitabilityResponse single = suitability(0);
+
+        byte[] jsonSingle = json.writeValueAsBytes(single);
+        byte[] cborSingle = cbor.writeValueAsBytes(single);
+        byte[] jsonBatch = json.writeValueAsBytes(batch);
+        byte[] cborBatch = cbor.writeValueAsBytes(batch);
+        assertThat(cborSingle.length).isLessThan(jsonSingle.length);
+        assertThat(cborBatch.length).isLessThan(jsonBatch.length);
+    }
+
+    private static WalkingSuitabilityResponse suitability(int i) {
+        WalkingSuitabilityResponse response = new WalkingSuitabilityResponse();
+        response.setStatus(WalkingStatus.BAD.getLabel());
+        response.setPm10Value(85 + i % 10);
+        response.setPm25Value(30 + i % 7);
+        response.setTemperature("21.3");
+        response.setSkyCondition(SkyCode.MOSTLY_CLOUDY.getLabel());
+        response.setPrecipitation(PrecipitationType.RAIN_SNOW.getLabel());
+        response.setLocation("서울특별시 강남구 역삼동 " + i);
+        response.setStationName("강남구");
+        return response;
+    }
+
+    private static AirQualityResponse airQuality(String khaiGrade) {
+        AirQualityResponse response = new AirQualityResponse();
+        response.setPm10Value(40);
+        response.setPm25Value(20);
+        response.setLocation("서울 강남구 (37.4979, 127.0276)");
+        response.setStationName("강남구");
+        response.setKhaiGrade(khaiGrade);
+        response.setDataTime("2024-05-01 14:00");
+        return response;
+    }
+}
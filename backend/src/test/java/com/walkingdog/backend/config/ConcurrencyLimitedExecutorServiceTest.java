@@ -0,0 +1,92 @@
+package com.walkingdog.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final ThreadFactory recording = runnable -> {
+        Thread thread = Thread.ofVirtual().unstarted(runnable);
+        threads.add(thread);
+        return thread;
+    };
+    private final ExecutorService executor =
+            new ConcurrencyLimitedExecutorService(Executors.newThreadPerTaskExecutor(recording), 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsAtMostMaxConcurrencyTasksAtOnce() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    void interruptedWhileWaitingForAPermitStillCompletesTheCallersFuture() throws Exception {
+        // 허가 2개를 모두 붙잡아 둔다
+        CountDownLatch holding = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                holding.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> submitted = executor.submit(() -> "submit");
+        CompletableFuture<String> supplied = CompletableFuture.supplyAsync(() -> "supplyAsync", executor);
+
+        // 허가를 기다리는 두 스레드만 인터럽트 (예전에는 작업이 버려져 두 future가 영원히 완료되지 않았다)
+        threads.get(2).interrupt();
+        threads.get(3).interrupt();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!submitted.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(submitted.isCancelled()).isTrue();
+        assertThat(supplied.get(5, TimeUnit.SECONDS)).isEqualTo("supplyAsync");
+        release.countDown();
+    }
+}
@@ -0,0 +1,48 @@
+package com.walkingdog.backend.config;
+
+import com.walkingdog.backend.controller.WalkingController;
+import com.walkingdog.backend.service.ObservationVersionResolver;
+import com.walkingdog.backend.service.SuitabilitySubscriptionService;
+import com.walkingdog.backend.service.WalkingSuitabilityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 앱 포트에서는 actuator 중 health만 열려 있는지 확인
+ */
+@WebMvcTest(WalkingController.class)
+@Import(SecurityConfig.class)
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WalkingSuitabilityService walkingSuitabilityService;
+
+    @MockBean
+    private SuitabilitySubscriptionService subscriptionService;
+
+    @MockBean
+    private ObservationVersionResolver observationVersionResolver;
+
+    @Test
+    void actuatorEndpointsOtherThanHealthAreDenied() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics/upstream.singleflight.calls")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/env")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void healthIsNotBlocked() throws Exception {
+        // 슬라이스 테스트에는 actuator가 없으므로 보안 필터를 통과하면 404
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,161 @@
+package com.walkingdog.backend.controller;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.config.SecurityConfig;
+import com.walkingdog.backend.dto.AirQualityResponse;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import com.walkingdog.backend.service.AirQualityRaster;
+import com.walkingdog.backend.service.AirQualityRasterService;
+import com.walkingdog.backend.service.AirQualityService;
+import com.walkingdog.backend.service.AirQualitySnapshot;
+import com.walkingdog.backend.service.AirQualitySnapshotService;
+import com.walkingdog.backend.service.AirQualityTileService;
+import com.walkingdog.backend.service.ObservationHistoryService;
+import com.walkingdog.backend.service.ObservationVersionResolver;
+import com.walkingdog.backend.service.SuitabilitySubscriptionService;
+import com.walkingdog.backend.service.WalkingStatus;
+import com.walkingdog.backend.service.WalkingSuitabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 ObservationVersionResolver로 만든 ETag가 맞으면 서비스 호출 없이 304,
+ * 스냅샷이나 격자가 바뀌면 다시 200인지 확인
+ */
+@WebMvcTest({AirQualityController.class, WalkingController.class})
+@Import({SecurityConfig.class, ObservationVersionResolver.class})
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AirQualitySnapshotService snapshotService;
+
+    @MockBean
+    private AirQualityRasterService rasterService;
+
+    @MockBean
+    private AirQualityService airQualityService;
+
+    @MockBean
+    private AirQualityTileService tileService;
+
+    @MockBean
+    private ObservationHistoryService historyService;
+
+    @MockBean
+    private WalkingSuitabilityService walkingSuitabilityService;
+
+    @MockBean
+    private SuitabilitySubscriptionService subscriptionService;
+
+    private AirQualitySnapshot snapshot;
+
+    private static AirQualitySnapshot snapshot(Instant loadedAt) {
+        return new AirQualitySnapshot(
+                Map.of("서울", List.of(new AirMeasurement("중구", 30, 15, 2, "2026-10-18 14:00"))), loadedAt);
+    }
+
+    private void useSnapshot(AirQualitySnapshot next, long rasterGeneration) {
+        snapshot = next;
+        AirQualityRaster raster = mock(AirQualityRaster.class);
+        when(raster.isBuiltFrom(next)).thenReturn(true);
+        when(raster.getGeneration()).thenReturn(rasterGeneration);
+        when(snapshotService.getSnapshot()).thenReturn(next);
+        when(rasterService.getRaster()).thenReturn(raster);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useSnapshot(snapshot(Instant.parse("2026-10-18T05:20:00Z")), 3);
+
+        AirQualityResponse air = new AirQualityResponse();
+        air.setStationName("중구");
+        air.setPm10Value(30);
+        air.setPm25Value(15);
+        when(airQualityService.getAirQualityByLocation(anyDouble(), anyDouble())).thenReturn(air);
+
+        WalkingSuitabilityResponse suitability = new WalkingSuitabilityResponse();
+        suitability.setStatus(WalkingStatus.GOOD.getLabel());
+        suitability.setStationName("중구");
+        when(walkingSuitabilityService.calculateSuitability(anyDouble(), anyDouble(), any())).thenReturn(suitability);
+    }
+
+    private String etag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).param("lat", "37.5640").param("lon", "126.9750"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+        return etag;
+    }
+
+    private int statusWith(String path, String etag) throws Exception {
+        return mockMvc.perform(get(path).param("lat", "37.5640").param("lon", "126.9750")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Test
+    void matchingEtagSkipsTheAirQualityService() throws Exception {
+        String etag = etag("/api/air");
+        clearInvocations(airQualityService);
+
+        assertThat(statusWith("/api/air", etag)).isEqualTo(304);
+        verifyNoInteractions(airQualityService);
+    }
+
+    @Test
+    void matchingEtagSkipsTheSuitabilityService() throws Exception {
+        String etag = etag("/api/walking/suitability");
+        clearInvocations(walkingSuitabilityService);
+
+        assertThat(statusWith("/api/walking/suitability", etag)).isEqualTo(304);
+        verifyNoInteractions(walkingSuitabilityService);
+    }
+
+    @Test
+    void newSnapshotInvalidatesTheEtag() throws Exception {
+        String etag = etag("/api/air");
+
+        // 같은 측정시각이라도 스냅샷을 다시 받았으면 (정정 값 등) 새 응답
+        useSnapshot(snapshot(snapshot.getLoadedAt().plusSeconds(600)), 3);
+
+        assertThat(statusWith("/api/air", etag)).isEqualTo(200);
+        verify(airQualityService, times(2)).getAirQualityByLocation(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void rebuiltRasterInvalidatesTheEtag() throws Exception {
+        String airEtag = etag("/api/air");
+        String suitabilityEtag = etag("/api/walking/suitability");
+
+        // 같은 스냅샷으로 격자만 다시 만든 경우 (측정소 목록 갱신 등)
+        useSnapshot(snapshot, 4);
+
+        assertThat(statusWith("/api/air", airEtag)).isEqualTo(200);
+        assertThat(statusWith("/api/walking/suitability", suitabilityEtag)).isEqualTo(200);
+    }
+}
@@ -0,0 +1,104 @@
+package com.walkingdog.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import com.walkingdog.backend.config.SecurityConfig;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import com.walkingdog.backend.service.ObservationVersionResolver;
+import com.walkingdog.backend.service.SuitabilitySubscriptionService;
+import com.walkingdog.backend.service.WalkingStatus;
+import com.walkingdog.backend.service.WalkingSuitabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 MVC 변환기 목록을 거쳐 Accept에 따라 JSON / compact CBOR가 나가는지 확인
+ */
+@WebMvcTest(WalkingController.class)
+@Import(SecurityConfig.class)
+class WalkingControllerTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private final ObjectMapper cborReader = new CBORMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WalkingSuitabilityService walkingSuitabilityService;
+
+    @MockBean
+    private SuitabilitySubscriptionService subscriptionService;
+
+    @MockBean
+    private ObservationVersionResolver observationVersionResolver;
+
+    @BeforeEach
+    void setUp() {
+        WalkingSuitabilityResponse response = new WalkingSuitabilityResponse();
+        response.setStatus(WalkingStatus.BAD.getLabel());
+        response.setStatusCode(WalkingStatus.BAD.name());
+        response.setPm10Value(95);
+        response.setPm25Value(40);
+        response.setTemperature("21.3");
+        response.setSkyCondition(SkyCode.MOSTLY_CLOUDY.getLabel());
+        response.setPrecipitation(PrecipitationType.NONE.getLabel());
+        response.setLocation("서울 강남구");
+        response.setStationName("강남구");
+        when(walkingSuitabilityService.calculateSuitability(anyDouble(), anyDouble(), any())).thenReturn(response);
+    }
+
+    @Test
+    void cborRequestsGetCompactIntegerCodes() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/walking/suitability")
+                        .param("lat", "37.4979")
+                        .param("lon", "127.0276")
+                        .accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn();
+
+        JsonNode body = cborReader.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("status").isInt()).isTrue();
+        assertThat(body.get("status").intValue()).isEqualTo(WalkingStatus.BAD.getCode());
+        assertThat(body.get("skyCondition").intValue()).isEqualTo(SkyCode.MOSTLY_CLOUDY.getCode());
+        assertThat(body.get("precipitation").intValue()).isEqualTo(PrecipitationType.NONE.getCode());
+        assertThat(body.has("statusCode")).isFalse();
+        assertThat(body.has("message")).isFalse();
+    }
+
+    @Test
+    void jsonRequestsKeepTheLabels() throws Exception {
+        mockMvc.perform(get("/api/walking/suitability")
+                        .param("lat", "37.4979")
+                        .param("lon", "127.0276")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(WalkingStatus.BAD.getLabel()))
+                .andExpect(jsonPath("$.statusCode").value("BAD"));
+    }
+}
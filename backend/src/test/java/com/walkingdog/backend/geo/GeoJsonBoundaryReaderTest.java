@@ -0,0 +1,80 @@
+package com.walkingdog.backend.geo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경계 픽스처 (경도 127.0~127.35, 위도 37.0~37.35)
+ * <pre>
+ *   서쪽:   [127.0, 127.1] x [37.0, 37.1] + 섬 [127.3, 127.35] x [37.3, 37.35] (MultiPolygon)
+ *   동쪽:   [127.1, 127.2] x [37.0, 37.1], 구멍 [127.13, 127.17] x [37.03, 37.07]
+ *   월경지: 동쪽 구멍 안의 [127.14, 127.16] x [37.04, 37.06]
+ *   북쪽:   [127.0, 127.1] x [37.1, 37.2]
+ * </pre>
+ */
+class GeoJsonBoundaryReaderTest {
+
+    private static BoundaryIndex read(double cellSizeDeg) throws Exception {
+        try (InputStream in = GeoJsonBoundaryReaderTest.class.getResourceAsStream("/geo/boundary-fixture.geojson")) {
+            return new GeoJsonBoundaryReader().read(in, "name", cellSizeDeg);
+        }
+    }
+
+    @Test
+    void readsPolygonPartsAndSkipsPointGeometries() throws Exception {
+        BoundaryIndex index = read(0.05);
+
+        // 서쪽 2파트 + 동쪽 + 북쪽 + 월경지, Point는 제외
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.005, 0.05, 1.0})
+    void locatesPointsRegardlessOfCellSize(double cellSizeDeg) throws Exception {
+        BoundaryIndex index = read(cellSizeDeg);
+
+        assertThat(index.locate(37.05, 127.05)).isEqualTo("서쪽");
+        assertThat(index.locate(37.01, 127.19)).isEqualTo("동쪽");
+        assertThat(index.locate(37.15, 127.05)).isEqualTo("북쪽");
+        assertThat(index.locate(37.5, 127.5)).isNull();
+    }
+
+    @Test
+    void pointInAHoleIsNotInsideTheOuterPolygon() throws Exception {
+        BoundaryIndex index = read(0.05);
+
+        assertThat(index.locate(37.05, 127.135)).isNull();
+        assertThat(index.locate(37.05, 127.15)).isEqualTo("월경지");
+    }
+
+    @Test
+    void islandPartResolvesToItsFeature() throws Exception {
+        BoundaryIndex index = read(0.05);
+
+        assertThat(index.locate(37.32, 127.32)).isEqualTo("서쪽");
+        // 본토와 섬 사이 바다
+        assertThat(index.locate(37.25, 127.25)).isNull();
+    }
+
+    @Test
+    void pointOnASharedBorderBelongsToExactlyOneRegion() throws Exception {
+        BoundaryIndex index = read(0.05);
+
+        // 반열린 구간 규칙: 세로 경계 위의 점은 동쪽 폴리곤, 가로 경계 위의 점은 북쪽 폴리곤에 속한다
+        assertThat(index.locate(37.05, 127.1)).isEqualTo("동쪽");
+        assertThat(index.locate(37.1, 127.05)).isEqualTo("북쪽");
+    }
+
+    @Test
+    void emptyIndexLocatesNothing() {
+        BoundaryIndex index = BoundaryIndex.builder().build(0.05);
+
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.locate(37.05, 127.05)).isNull();
+    }
+}
@@ -0,0 +1,112 @@
+package com.walkingdog.backend.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KdTreeTest {
+
+    /**
+     * 트리와 같은 평면 근사(경도 × cos 평균위도) 제곱거리, 계산 순서까지 같게 해 값이 비트 단위로 일치한다
+     */
+    private static double[] planarDistances(double[] lats, double[] lons, double lat, double lon) {
+        double latSum = 0;
+        for (double value : lats) {
+            latSum += value;
+        }
+        double cosRefLat = Math.cos(Math.toRadians(latSum / lats.length));
+        double[] distances = new double[lats.length];
+        for (int i = 0; i < lats.length; i++) {
+            double dx = lon * cosRefLat - lons[i] * cosRefLat;
+            double dy = lat - lats[i];
+            distances[i] = dx * dx + dy * dy;
+        }
+        return distances;
+    }
+
+    private static void assertMatchesBruteForce(KdTree tree, double[] lats, double[] lons,
+                                                double lat, double lon, int k) {
+        double[] distances = planarDistances(lats, lons, lat, lon);
+        int[] expected = IntStream.range(0, lats.length).boxed()
+                .sorted(Comparator.comparingDouble(i -> distances[i]))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int[] actual = tree.nearest(lat, lon, k);
+
+        // 같은 거리(중복 좌표)끼리는 순서가 정해져 있지 않으므로 거리 순서와 개수로 비교
+        assertThat(actual).hasSize(expected.length).doesNotHaveDuplicates();
+        assertThat(Arrays.stream(actual).mapToDouble(i -> distances[i]).toArray())
+                .containsExactly(Arrays.stream(expected).mapToDouble(i -> distances[i]).toArray());
+    }
+
+    @Test
+    void kNearestMatchesBruteForceOnRandomPoints() {
+        Random random = new Random(42);
+        int n = 700;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.7;
+            lons[i] = 124.5 + random.nextDouble() * 7.5;
+        }
+        KdTree tree = new KdTree(lats, lons);
+
+        for (int q = 0; q < 300; q++) {
+            double lat = 32.5 + random.nextDouble() * 6.5;
+            double lon = 124.0 + random.nextDouble() * 8.5;
+            for (int k : new int[]{1, 4, 16}) {
+                assertMatchesBruteForce(tree, lats, lons, lat, lon, k);
+            }
+        }
+    }
+
+    @Test
+    void duplicatePointsAreAllReturned() {
+        Random random = new Random(3);
+        // 같은 좌표 측정소가 여러 개(이전/신규 측정소가 같은 건물) + 격자 위 점이 많은 경우
+        int n = 400;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (i % 4 == 0) {
+                lats[i] = 37.5665;
+                lons[i] = 126.9780;
+            } else {
+                lats[i] = 35.0 + random.nextInt(20) * 0.1;
+                lons[i] = 127.0 + random.nextInt(20) * 0.1;
+            }
+        }
+        KdTree tree = new KdTree(lats, lons);
+
+        int[] atDuplicate = tree.nearest(37.5665, 126.9780, 100);
+        assertThat(atDuplicate).hasSize(100).doesNotHaveDuplicates();
+        assertThat(Arrays.stream(atDuplicate).map(i -> i % 4)).containsOnly(0);
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 34.9 + random.nextInt(24) * 0.1;
+            double lon = 126.9 + random.nextInt(24) * 0.1;
+            for (int k : new int[]{1, 3, 10, 120}) {
+                assertMatchesBruteForce(tree, lats, lons, lat, lon, k);
+            }
+        }
+    }
+
+    @Test
+    void edgeCases() {
+        KdTree empty = new KdTree(new double[0], new double[0]);
+        assertThat(empty.nearest(37.5, 127.0)).isEqualTo(-1);
+        assertThat(empty.nearest(37.5, 127.0, 3)).isEmpty();
+
+        KdTree two = new KdTree(new double[]{37.5, 35.1}, new double[]{127.0, 129.0});
+        assertThat(two.nearest(35.2, 129.1)).isEqualTo(1);
+        assertThat(two.nearest(37.4, 126.9, 10)).containsExactly(0, 1);
+        assertThat(two.nearest(37.4, 126.9, 0)).isEmpty();
+    }
+}
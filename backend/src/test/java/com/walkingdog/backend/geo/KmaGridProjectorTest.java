@@ -0,0 +1,56 @@
+package com.walkingdog.backend.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KmaGridProjectorTest {
+
+    @Test
+    void matchesKmaReferenceGridPoints() {
+        assertThat(KmaGridProjector.toGrid(37.5665, 126.9780)).isEqualTo(new KmaGridProjector.GridPoint(60, 127));
+        assertThat(KmaGridProjector.toGrid(35.1796, 129.0756)).isEqualTo(new KmaGridProjector.GridPoint(98, 76));
+        assertThat(KmaGridProjector.toGrid(33.4996, 126.5312)).isEqualTo(new KmaGridProjector.GridPoint(53, 38));
+    }
+
+    @Test
+    void inverseReturnsTheCellCentre() {
+        double[] latLon = KmaGridProjector.toLatLon(60, 127);
+
+        // 격자 간격 5km → 중심은 원래 좌표에서 대략 3.5km 안
+        assertThat(GeoUtil.distanceKm(37.5665, 126.9780, latLon[0], latLon[1])).isLessThan(3.6);
+        assertThat(KmaGridProjector.toGrid(latLon[0], latLon[1])).isEqualTo(new KmaGridProjector.GridPoint(60, 127));
+    }
+
+    @Test
+    void bulkMatchesSinglePointBothWays() {
+        Random random = new Random(7);
+        int n = 5000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33 + random.nextDouble() * 5.5;
+            lons[i] = 124.5 + random.nextDouble() * 7;
+        }
+        int[] nxs = new int[n];
+        int[] nys = new int[n];
+        KmaGridProjector.toGrid(lats, lons, nxs, nys);
+
+        double[] centreLats = new double[n];
+        double[] centreLons = new double[n];
+        KmaGridProjector.toLatLon(nxs, nys, centreLats, centreLons);
+
+        for (int i = 0; i < n; i++) {
+            KmaGridProjector.GridPoint single = KmaGridProjector.toGrid(lats[i], lons[i]);
+            assertThat(nxs[i]).isEqualTo(single.nx());
+            assertThat(nys[i]).isEqualTo(single.ny());
+
+            double[] centre = KmaGridProjector.toLatLon(nxs[i], nys[i]);
+            assertThat(centreLats[i]).isCloseTo(centre[0], within(1e-12));
+            assertThat(centreLons[i]).isCloseTo(centre[1], within(1e-12));
+        }
+    }
+}
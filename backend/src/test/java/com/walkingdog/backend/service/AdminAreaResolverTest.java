@@ -0,0 +1,76 @@
+package com.walkingdog.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminAreaResolverTest {
+
+    private static final String FIXTURE = "classpath:geo/boundary-fixture.geojson";
+
+    @Test
+    void blankPathsUseTheBoundingBoxApproximation() {
+        AdminAreaResolver resolver = new AdminAreaResolver(new DefaultResourceLoader(), "", "name", "", "name", 0.05);
+
+        assertThat(resolver.hasSidoBoundaries()).isFalse();
+        assertThat(resolver.resolve(37.5665, 126.9780)).isEqualTo(new AdminArea("서울", null));
+    }
+
+    @Test
+    void configuredButMissingBoundaryFileFailsStartup() {
+        assertThatThrownBy(() -> new AdminAreaResolver(new DefaultResourceLoader(),
+                "classpath:geo/does-not-exist.geojson", "name", "", "name", 0.05))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("geo.boundary.sido-path");
+    }
+
+    @Test
+    void configuredBoundaryFileIsUsedForPointInPolygon() {
+        AdminAreaResolver resolver = new AdminAreaResolver(new DefaultResourceLoader(),
+                FIXTURE, "name", FIXTURE, "name", 0.05);
+
+        assertThat(resolver.hasSidoBoundaries()).isTrue();
+        assertThat(resolver.resolve(37.05, 127.15).sigunguName()).isEqualTo("월경지");
+        assertThat(resolver.resolve(37.05, 127.135).sigunguName()).isNull();
+    }
+
+    @Test
+    void bundledSidoBoundariesResolveEveryCityHall() {
+        AdminAreaResolver resolver = new AdminAreaResolver(new DefaultResourceLoader(),
+                AdminAreaResolver.BUNDLED_SIDO_PATH, "name", "", "name", 0.05);
+
+        assertThat(resolver.hasSidoBoundaries()).isTrue();
+        assertThat(resolver.resolveSido(37.5665, 126.9780)).isEqualTo("서울");
+        assertThat(resolver.resolveSido(35.1798, 129.0750)).isEqualTo("부산");
+        assertThat(resolver.resolveSido(35.8714, 128.6014)).isEqualTo("대구");
+        assertThat(resolver.resolveSido(37.4563, 126.7052)).isEqualTo("인천");
+        assertThat(resolver.resolveSido(35.1595, 126.8526)).isEqualTo("광주");
+        assertThat(resolver.resolveSido(36.3504, 127.3845)).isEqualTo("대전");
+        assertThat(resolver.resolveSido(35.5384, 129.3114)).isEqualTo("울산");
+        assertThat(resolver.resolveSido(36.4800, 127.2890)).isEqualTo("세종");
+        assertThat(resolver.resolveSido(37.2636, 127.0286)).isEqualTo("경기");
+        assertThat(resolver.resolveSido(37.8813, 127.7298)).isEqualTo("강원");
+        assertThat(resolver.resolveSido(36.6424, 127.4890)).isEqualTo("충북");
+        assertThat(resolver.resolveSido(36.6588, 126.6728)).isEqualTo("충남");
+        assertThat(resolver.resolveSido(35.8242, 127.1480)).isEqualTo("전북");
+        assertThat(resolver.resolveSido(34.8161, 126.4629)).isEqualTo("전남");
+        assertThat(resolver.resolveSido(36.5760, 128.5056)).isEqualTo("경북");
+        assertThat(resolver.resolveSido(35.2383, 128.6925)).isEqualTo("경남");
+        assertThat(resolver.resolveSido(33.4890, 126.4983)).isEqualTo("제주");
+    }
+
+    @Test
+    void bundledSidoBoundariesFixTheBoundingBoxMistakes() {
+        AdminAreaResolver boundaries = new AdminAreaResolver(new DefaultResourceLoader(),
+                AdminAreaResolver.BUNDLED_SIDO_PATH, "name", "", "name", 0.05);
+
+        // bbox 근사로는 틀리던 곳, 그리고 대구와 바로 맞닿은 경산
+        assertThat(boundaries.resolveSido(37.5037, 126.7660)).isEqualTo("경기");  // 부천
+        assertThat(boundaries.resolveSido(37.4292, 126.9876)).isEqualTo("경기");  // 과천
+        assertThat(boundaries.resolveSido(36.2428, 128.5728)).isEqualTo("대구");  // 군위 (2023 대구 편입)
+        assertThat(boundaries.resolveSido(35.8251, 128.7411)).isEqualTo("경북");  // 경산
+        assertThat(boundaries.resolveSido(37.7469, 126.4878)).isEqualTo("인천");  // 강화
+    }
+}
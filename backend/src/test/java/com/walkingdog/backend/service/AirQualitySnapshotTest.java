@@ -0,0 +1,74 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.util.SidoNames;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AirQualitySnapshotTest {
+
+    private static AirMeasurement row(String stationName, String dataTime) {
+        return new AirMeasurement(stationName, 30, 15, 2, dataTime);
+    }
+
+    private static AirQualitySnapshot allSido(String dataTime) {
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        for (String sidoName : SidoNames.ALL) {
+            tables.put(sidoName, List.of(row(sidoName + "측정소", dataTime)));
+        }
+        return new AirQualitySnapshot(tables, Instant.now());
+    }
+
+    @Test
+    void midnightIsNormalisedToTheNextDay() {
+        assertThat(AirQualitySnapshot.parseDataTime("2026-10-18 24:00")).isEqualTo(LocalDateTime.of(2026, 10, 19, 0, 0));
+        assertThat(AirQualitySnapshot.parseDataTime("2026-10-18 23:00")).isEqualTo(LocalDateTime.of(2026, 10, 18, 23, 0));
+        assertThat(AirQualitySnapshot.parseDataTime("-")).isNull();
+    }
+
+    @Test
+    void latestDataTimeComparesMidnightByTimeNotByString() {
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        tables.put("서울", List.of(row("중구", "2026-10-18 23:00"), row("종로구", "2026-10-18 24:00")));
+        AirQualitySnapshot snapshot = new AirQualitySnapshot(tables, Instant.now());
+
+        assertThat(snapshot.getDataTime()).isEqualTo("2026-10-18 24:00");
+        assertThat(snapshot.getObservedAt()).isEqualTo(LocalDateTime.of(2026, 10, 19, 0, 0));
+        // "24:00" 자료는 다음 날 00시 정시 자료로 본다
+        assertThat(snapshot.isFresh("서울", LocalDateTime.of(2026, 10, 19, 0, 0))).isTrue();
+    }
+
+    @Test
+    void oneLateSidoKeepsTheSnapshotStale() {
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        for (String sidoName : SidoNames.ALL) {
+            String dataTime = sidoName.equals("제주") ? "2026-10-18 13:00" : "2026-10-18 14:00";
+            tables.put(sidoName, List.of(row(sidoName + "측정소", dataTime)));
+        }
+        AirQualitySnapshot snapshot = new AirQualitySnapshot(tables, Instant.now());
+        LocalDateTime expected = LocalDateTime.of(2026, 10, 18, 14, 0);
+
+        assertThat(snapshot.getObservedAt()).isEqualTo(expected);
+        assertThat(AirQualitySnapshotService.staleSidoNames(snapshot, expected)).containsExactly("제주");
+    }
+
+    @Test
+    void missingSidoTablesAreStale() {
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        tables.put("서울", List.of(row("중구", "2026-10-18 14:00")));
+        AirQualitySnapshot snapshot = new AirQualitySnapshot(tables, Instant.now());
+
+        List<String> stale = AirQualitySnapshotService.staleSidoNames(snapshot, LocalDateTime.of(2026, 10, 18, 14, 0));
+
+        assertThat(stale).hasSize(SidoNames.ALL.size() - 1).doesNotContain("서울");
+        assertThat(AirQualitySnapshotService.staleSidoNames(allSido("2026-10-18 24:00"),
+                LocalDateTime.of(2026, 10, 19, 0, 0))).isEmpty();
+    }
+}
@@ -0,0 +1,219 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.AirMeasurement;
+import com.walkingdog.backend.dto.SuitabilityBatchItem;
+import com.walkingdog.backend.dto.SuitabilityBatchLocation;
+import com.walkingdog.backend.dto.SuitabilityBatchResponse;
+import com.walkingdog.backend.dto.WalkingSuitabilityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuitabilitySubscriptionServiceTest {
+
+    // 구독 위치(위도) → 그 위치 격자 값에 쓰인 측정소
+    private static final double JUNG_GU = 37.5640;
+    private static final double GANGNAM = 37.5172;
+    private static final double SUWON = 37.2636;
+
+    /**
+     * 호출한 스레드에서 바로 실행 (전송 결과를 테스트 안에서 바로 확인)
+     */
+    private static final class DirectExecutorService extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    /**
+     * 보낸 이벤트 수만 세는 emitter, broken이면 끊긴 연결처럼 전송에 실패한다
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        int sent;
+        boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            sent++;
+        }
+    }
+
+    private final WalkingSuitabilityService walkingSuitabilityService = mock(WalkingSuitabilityService.class);
+    private final StationRegistry stationRegistry = mock(StationRegistry.class);
+    private final AirQualityRasterService rasterService = mock(AirQualityRasterService.class);
+
+    // 위도별 계산 결과 (pm10, pm25), 테스트에서 바꿔 가며 쓴다
+    private final Map<Double, int[]> values = new ConcurrentHashMap<>();
+    private final List<List<Double>> calculated = new ArrayList<>();
+    private final Map<Double, RecordingEmitter> emitters = new LinkedHashMap<>();
+
+    private SuitabilitySubscriptionService service;
+
+    @BeforeEach
+    void setUp() {
+        when(stationRegistry.getTable()).thenReturn(StationTable.EMPTY);
+        when(rasterService.contributors(anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double lat = invocation.getArgument(0);
+            if (lat == JUNG_GU) {
+                return List.of(new AirQualityRaster.Contributor("서울", "중구"));
+            }
+            if (lat == GANGNAM) {
+                return List.of(new AirQualityRaster.Contributor("서울", "강남구"));
+            }
+            return List.of(new AirQualityRaster.Contributor("경기", "인계동"));
+        });
+        when(walkingSuitabilityService.calculateBatch(anyList())).thenAnswer(invocation -> {
+            List<SuitabilityBatchLocation> locations = invocation.getArgument(0);
+            List<Double> lats = new ArrayList<>();
+            List<SuitabilityBatchItem> items = new ArrayList<>();
+            for (int i = 0; i < locations.size(); i++) {
+                double lat = locations.get(i).getLat();
+                lats.add(lat);
+                items.add(new SuitabilityBatchItem(i, true, null, suitability(values.get(lat))));
+            }
+            calculated.add(lats);
+            return new SuitabilityBatchResponse(items, locations.size(), 0, locations.size(), 1);
+        });
+
+        values.put(JUNG_GU, new int[]{30, 15});
+        values.put(GANGNAM, new int[]{40, 20});
+        values.put(SUWON, new int[]{50, 25});
+
+        service = new SuitabilitySubscriptionService(walkingSuitabilityService, stationRegistry, rasterService,
+                new DirectExecutorService(), 4, 60_000, 100) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private static WalkingSuitabilityResponse suitability(int[] pm) {
+        WalkingSuitabilityResponse response = new WalkingSuitabilityResponse();
+        response.setStatus(WalkingStatus.of(pm[0], pm[1]).getLabel());
+        response.setPm10Value(pm[0]);
+        response.setPm25Value(pm[1]);
+        return response;
+    }
+
+    private static AirQualitySnapshot snapshot(int jungGuPm10, int gangnamPm10, int inGyePm10) {
+        Map<String, List<AirMeasurement>> tables = new LinkedHashMap<>();
+        tables.put("서울", List.of(
+                new AirMeasurement("중구", jungGuPm10, 15, 1, "2026-10-18 14:00"),
+                new AirMeasurement("강남구", gangnamPm10, 20, 2, "2026-10-18 14:00")));
+        tables.put("경기", List.of(new AirMeasurement("인계동", inGyePm10, 25, 2, "2026-10-18 14:00")));
+        return new AirQualitySnapshot(tables, Instant.now());
+    }
+
+    private void subscribeAll() {
+        for (double lat : new double[]{JUNG_GU, GANGNAM, SUWON}) {
+            emitters.put(lat, (RecordingEmitter) service.subscribe(lat, 127.0, null));
+        }
+        calculated.clear();
+    }
+
+    private int sent(double lat) {
+        return emitters.get(lat).sent;
+    }
+
+    @Test
+    void firstEventIsSentOnSubscribe() {
+        subscribeAll();
+
+        assertThat(service.getSubscriptionCount()).isEqualTo(3);
+        assertThat(sent(JUNG_GU)).isEqualTo(1);
+        assertThat(sent(GANGNAM)).isEqualTo(1);
+        assertThat(sent(SUWON)).isEqualTo(1);
+    }
+
+    @Test
+    void onlySubscriptionsOnChangedStationsArePushed() {
+        subscribeAll();
+        values.put(GANGNAM, new int[]{95, 20});
+
+        service.onSnapshotRefreshed(new AirQualitySnapshotRefreshedEvent(snapshot(30, 40, 50), snapshot(30, 95, 50)));
+
+        assertThat(calculated).containsExactly(List.of(GANGNAM));
+        assertThat(sent(GANGNAM)).isEqualTo(2);
+        assertThat(sent(JUNG_GU)).isEqualTo(1);
+        assertThat(sent(SUWON)).isEqualTo(1);
+    }
+
+    @Test
+    void unchangedValuesSendNothing() {
+        subscribeAll();
+
+        // 측정소 값이 그대로면 다시 계산하지도 않는다
+        service.onSnapshotRefreshed(new AirQualitySnapshotRefreshedEvent(snapshot(30, 40, 50), snapshot(30, 40, 50)));
+        assertThat(calculated).isEmpty();
+
+        // 측정소 값은 바뀌었지만 그 위치의 결과가 마지막으로 보낸 값과 같으면 보내지 않는다
+        service.onSnapshotRefreshed(new AirQualitySnapshotRefreshedEvent(snapshot(30, 40, 50), snapshot(31, 40, 50)));
+        assertThat(calculated).containsExactly(List.of(JUNG_GU));
+        assertThat(sent(JUNG_GU)).isEqualTo(1);
+        assertThat(sent(GANGNAM)).isEqualTo(1);
+        assertThat(sent(SUWON)).isEqualTo(1);
+    }
+
+    @Test
+    void removedSubscriptionIsNotIndexedAgain() {
+        subscribeAll();
+        emitters.get(SUWON).broken = true;
+        values.put(SUWON, new int[]{120, 60});
+
+        // 전송 실패로 해제된 뒤 측정소 목록이 바뀌어 전체 재색인이 돌아도 다시 들어가지 않는다
+        service.onSnapshotRefreshed(new AirQualitySnapshotRefreshedEvent(snapshot(30, 40, 50), snapshot(30, 40, 120)));
+        service.onStationTableRefreshed(new StationTableRefreshedEvent(StationTable.EMPTY));
+
+        assertThat(service.getSubscriptionCount()).isEqualTo(2);
+        assertThat(service.indexedStationCount()).isEqualTo(2);
+
+        calculated.clear();
+        service.onSnapshotRefreshed(new AirQualitySnapshotRefreshedEvent(snapshot(30, 40, 120), snapshot(30, 40, 130)));
+        assertThat(calculated).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package com.walkingdog.backend.service;
+
+import com.walkingdog.backend.client.KmaNowcast;
+import com.walkingdog.backend.client.PrecipitationType;
+import com.walkingdog.backend.client.SkyCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherCacheTest {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    // 2024-05-01 14:00 발표분
+    private static final Instant BASE = LocalDateTime.of(2024, 5, 1, 14, 0).toInstant(KST);
+    private static final KmaNowcast CLEAR = new KmaNowcast(21.3, SkyCode.CLEAR, PrecipitationType.NONE);
+
+    /**
+     * 테스트에서 시각을 옮길 수 있는 시계
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock(BASE.plus(Duration.ofMinutes(45)));
+
+    private static WeatherCache.Key key(int nx) {
+        return new WeatherCache.Key(nx, 127, "20240501", "1400");
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryWhenFull() {
+        WeatherCache cache = new WeatherCache(3, new SimpleMeterRegistry(), clock);
+        cache.put(key(1), CLEAR);
+        cache.put(key(2), CLEAR);
+        cache.put(key(3), CLEAR);
+
+        // 1을 읽으면 가장 오래 안 쓴 항목은 2가 된다
+        assertThat(cache.get(key(1))).isEqualTo(CLEAR);
+        cache.put(key(4), CLEAR);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(key(2))).isNull();
+        assertThat(cache.get(key(1))).isEqualTo(CLEAR);
+        assertThat(cache.get(key(3))).isEqualTo(CLEAR);
+        assertThat(cache.get(key(4))).isEqualTo(CLEAR);
+    }
+
+    @Test
+    void expiresWhenTheNextBaseTimeIsPublished() {
+        WeatherCache cache = new WeatherCache(10, new SimpleMeterRegistry(), clock);
+        assertThat(WeatherCache.expiresAt(key(1))).isEqualTo(BASE.plus(Duration.ofMinutes(100)));
+
+        cache.put(key(1), CLEAR);
+        clock.set(BASE.plus(Duration.ofMinutes(100)).minusMillis(1));
+        assertThat(cache.get(key(1))).isEqualTo(CLEAR);
+
+        // 15:40 KST: 15시 발표분이 나왔으므로 14시 값은 버린다
+        clock.set(BASE.plus(Duration.ofMinutes(100)));
+        assertThat(cache.get(key(1))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void ignoresValuesThatAreAlreadyStale() {
+        WeatherCache cache = new WeatherCache(10, new SimpleMeterRegistry(), clock);
+        clock.set(BASE.plus(Duration.ofMinutes(130)));
+
+        cache.put(key(1), CLEAR);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        WeatherCache cache = new WeatherCache(10, new SimpleMeterRegistry(), clock);
+        assertThat(cache.get(key(1))).isNull();
+        cache.put(key(1), CLEAR);
+        cache.get(key(1));
+        cache.get(key(1));
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,219 @@
+package com.walkingdog.backend.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesStoreTest {
+
+    // 2024-05-01 00:00 KST
+    private static final int MAY_1 = (int) (java.time.LocalDateTime.of(2024, 5, 1, 0, 0)
+            .toEpochSecond(java.time.ZoneOffset.ofHours(9)) / 3600);
+
+    @TempDir
+    Path dir;
+
+    private record Row(int hour, short v1, short v2, byte v3) {
+    }
+
+    private static List<Row> query(TimeSeriesStore store, int key, int from, int to) {
+        List<Row> rows = new ArrayList<>();
+        store.query(key, from, to, (hour, v1, v2, v3) -> rows.add(new Row(hour, v1, v2, v3)));
+        return rows;
+    }
+
+    @Test
+    void queriesByKeyAndInclusiveTimeRange() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 1024)) {
+            for (int h = 0; h < 48; h++) {
+                store.append(MAY_1 + h, 1, (short) h, (short) (h / 2), (byte) 1);
+                store.append(MAY_1 + h, 2, (short) 100, (short) 50, (byte) 3);
+            }
+
+            List<Row> rows = query(store, 1, MAY_1 + 20, MAY_1 + 27);
+
+            // 자정을 넘는 구간 → 두 세그먼트에서 시각 순서대로
+            assertThat(rows).extracting(Row::hour).containsExactly(
+                    MAY_1 + 20, MAY_1 + 21, MAY_1 + 22, MAY_1 + 23, MAY_1 + 24, MAY_1 + 25, MAY_1 + 26, MAY_1 + 27);
+            assertThat(rows.get(0)).isEqualTo(new Row(MAY_1 + 20, (short) 20, (short) 10, (byte) 1));
+            assertThat(store.segmentCount()).isEqualTo(2);
+            assertThat(query(store, 3, MAY_1, MAY_1 + 47)).isEmpty();
+        }
+    }
+
+    @Test
+    void ignoresRowsNotNewerThanTheLastOneForTheKey() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 1024)) {
+            assertThat(store.append(MAY_1 + 5, 1, (short) 10, (short) 5, (byte) 1)).isTrue();
+            assertThat(store.append(MAY_1 + 5, 1, (short) 99, (short) 99, (byte) 4)).isFalse();
+            assertThat(store.append(MAY_1 + 4, 1, (short) 99, (short) 99, (byte) 4)).isFalse();
+            assertThat(store.append(MAY_1 + 5, 2, (short) 20, (short) 5, (byte) 1)).isTrue();
+
+            assertThat(store.getRowCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void rollsOverToANewPartWhenASegmentIsFull() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "weather", 4)) {
+            for (int key = 0; key < 10; key++) {
+                store.append(MAY_1 + 1, key, (short) key, (short) 1, (byte) 0);
+            }
+
+            assertThat(store.segmentCount()).isEqualTo(3);
+            assertThat(query(store, 9, MAY_1, MAY_1 + 2)).extracting(Row::v1).containsExactly((short) 9);
+        }
+    }
+
+    @Test
+    void reopensExistingSegmentsAndKeepsDeduplicating() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 1024)) {
+            store.append(MAY_1 + 1, 7, (short) 30, (short) 15, (byte) 2);
+            store.append(MAY_1 + 2, 7, (short) 31, (short) 16, (byte) 2);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(dir, "air", 1024)) {
+            assertThat(reopened.getRowCount()).isEqualTo(2);
+            assertThat(reopened.append(MAY_1 + 2, 7, (short) 0, (short) 0, (byte) 0)).isFalse();
+            assertThat(reopened.append(MAY_1 + 3, 7, (short) 32, (short) 17, (byte) 2)).isTrue();
+            assertThat(query(reopened, 7, MAY_1, MAY_1 + 23)).extracting(Row::v1)
+                    .containsExactly((short) 30, (short) 31, (short) 32);
+        }
+    }
+
+    @Test
+    void retentionDeletesWholeDaysBeforeTheCutoff() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 1024)) {
+            for (int day = 0; day < 3; day++) {
+                store.append(MAY_1 + day * 24 + 12, 1, (short) day, (short) 0, (byte) 0);
+            }
+
+            int deleted = store.deleteBefore(MAY_1 + 2 * 24 + 5);
+
+            assertThat(deleted).isEqualTo(2);
+            assertThat(query(store, 1, MAY_1, MAY_1 + 72)).extracting(Row::v1).containsExactly((short) 2);
+            try (var files = Files.list(dir)) {
+                assertThat(files.map(f -> f.getFileName().toString())).containsExactly("air-20240503-0.col");
+            }
+        }
+    }
+
+    @Test
+    void reopenIgnoresARowWrittenBeforeItsCountWasUpdated() throws Exception {
+        int capacity = 16;
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", capacity)) {
+            store.append(MAY_1 + 1, 7, (short) 30, (short) 15, (byte) 2);
+            store.append(MAY_1 + 2, 7, (short) 31, (short) 16, (byte) 2);
+        }
+        // 세 번째 행의 열 값까지 쓰고 헤더 count를 올리기 전에 프로세스가 죽은 상태를 흉내 낸다
+        Path segment = dir.resolve("air-20240501-0.col");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            writeInt(channel, ColumnarSegment.HEADER_BYTES + 4 * 2, MAY_1 + 3);
+            writeInt(channel, ColumnarSegment.HEADER_BYTES + 4 * capacity + 4 * 2, 7);
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(dir, "air", capacity)) {
+            assertThat(reopened.getRowCount()).isEqualTo(2);
+            assertThat(query(reopened, 7, MAY_1, MAY_1 + 23)).extracting(Row::hour)
+                    .containsExactly(MAY_1 + 1, MAY_1 + 2);
+
+            // 반쯤 쓴 행의 시각으로 중복 판정하지 않으므로 같은 시각을 다시 받아 그 자리에 덮어쓴다
+            assertThat(reopened.append(MAY_1 + 3, 7, (short) 32, (short) 17, (byte) 2)).isTrue();
+            assertThat(query(reopened, 7, MAY_1 + 3, MAY_1 + 3))
+                    .containsExactly(new Row(MAY_1 + 3, (short) 32, (short) 17, (byte) 2));
+        }
+    }
+
+    @Test
+    void reopenSkipsSegmentsWithABrokenHeader() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 16)) {
+            store.append(MAY_1 + 1, 1, (short) 10, (short) 5, (byte) 1);
+        }
+        Files.write(dir.resolve("air-20240502-0.col"), new byte[]{1, 2, 3});
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(dir, "air", 16)) {
+            assertThat(reopened.segmentCount()).isEqualTo(1);
+            assertThat(reopened.getRowCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rolledOverPartsAreReopenedInOrderAndKeepFilling() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "weather", 4)) {
+            for (int key = 0; key < 10; key++) {
+                store.append(MAY_1 + 1, key, (short) key, (short) 0, (byte) 0);
+            }
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(dir, "weather", 4)) {
+            assertThat(reopened.segmentCount()).isEqualTo(3);
+            assertThat(reopened.getRowCount()).isEqualTo(10);
+
+            // part 2에 남은 두 칸을 채운 뒤 part 3으로 넘어간다
+            for (int key = 10; key < 13; key++) {
+                reopened.append(MAY_1 + 1, key, (short) key, (short) 0, (byte) 0);
+            }
+            assertThat(reopened.segmentCount()).isEqualTo(4);
+            assertThat(reopened.append(MAY_1 + 1, 3, (short) 0, (short) 0, (byte) 0)).isFalse();
+            assertThat(query(reopened, 12, MAY_1, MAY_1 + 2)).extracting(Row::v1).containsExactly((short) 12);
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(f -> f.getFileName().toString())).containsExactlyInAnyOrder(
+                    "weather-20240501-0.col", "weather-20240501-1.col",
+                    "weather-20240501-2.col", "weather-20240501-3.col");
+        }
+    }
+
+    @Test
+    void retentionCutoffAtMidnightKeepsThatDayAndDropsEveryPartBefore() throws Exception {
+        try (TimeSeriesStore store = new TimeSeriesStore(dir, "air", 2)) {
+            for (int key = 0; key < 5; key++) {
+                store.append(MAY_1 + 3, key, (short) key, (short) 0, (byte) 0);   // 5월 1일: part 0..2
+            }
+            store.append(MAY_1 + 24, 0, (short) 100, (short) 0, (byte) 0);       // 5월 2일 00시
+
+            assertThat(store.deleteBefore(MAY_1 + 24)).isEqualTo(3);
+            assertThat(store.deleteBefore(MAY_1 + 24)).isZero();
+            assertThat(query(store, 1, MAY_1, MAY_1 + 47)).isEmpty();
+            assertThat(query(store, 0, MAY_1, MAY_1 + 47)).extracting(Row::v1).containsExactly((short) 100);
+            // key 0의 마지막 시각은 남은 날에 있으므로 중복 판정도 유지
+            assertThat(store.append(MAY_1 + 24, 0, (short) 0, (short) 0, (byte) 0)).isFalse();
+        }
+
+        try (TimeSeriesStore reopened = new TimeSeriesStore(dir, "air", 2)) {
+            assertThat(reopened.segmentCount()).isEqualTo(1);
+            assertThat(reopened.getRowCount()).isEqualTo(1);
+        }
+    }
+
+    private static void writeInt(FileChannel channel, long position, int value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(value).flip();
+        channel.write(buffer, position);
+    }
+
+    @Test
+    void dictionaryKeepsIdsAcrossReopen() throws Exception {
+        Path path = dir.resolve("stations.tsv");
+        try (KeyDictionary dictionary = new KeyDictionary(path)) {
+            assertThat(dictionary.idOf("서울|중구")).isZero();
+            assertThat(dictionary.idOf("부산|광복동")).isEqualTo(1);
+            assertThat(dictionary.idOf("서울|중구")).isZero();
+        }
+        try (KeyDictionary reopened = new KeyDictionary(path)) {
+            assertThat(reopened.find("부산|광복동")).isEqualTo(1);
+            assertThat(reopened.find("대구|수창동")).isEqualTo(-1);
+            assertThat(reopened.idOf("대구|수창동")).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.walkingdog.backend.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 에어코리아 / 기상청 API 대역 서버 (테스트용, 네트워크·API 할당량 없이 실행)
+ *
+ * 실제 경로와 같은 세 API를 fixture(JSON items 배열)로 응답한다.
+ * - /B552584/MsrstnInfoInqireSvc/getMsrstnList
+ * - /B552584/ArpltnInforInqireSvc/getCtprvnRltmMesureDnsty (sidoName으로 거름)
+ * - /1360000/VilageFcstInfoService_2.0/getUltraSrtNcst
+ * numOfRows / pageNo 페이지 나누기, 응답 지연(고정 + 무작위), 오류 주입(HTTP 500, 할당량 초과 XML,
+ * 응답 지연으로 읽기 타임아웃 유발)을 지원한다. fixture 안의 {{dataTime}}, {{baseDate}}, {{baseTime}},
+ * {{nx}}, {{ny}}는 요청 시각/파라미터로 채운다.
+ *
+ * 기본 fixture는 테스트 리소스 fixtures/public-data/, 실제 응답을 녹화해 둔 디렉터리가 있으면
+ * {@link Builder#fixtureDirectory(Path)} 또는 -Dfake-upstream.fixtures=경로 로 바꿔 쓴다.
+ *
+ * <pre>
+ * try (FakePublicDataServer upstream = FakePublicDataServer.builder().latency(Duration.ofMillis(150)).start()) {
+ *     new SpringApplicationBuilder(BackendApplication.class).run(upstream.applicationArgs().toArray(String[]::new));
+ * }
+ * </pre>
+ */
+public final class FakePublicDataServer implements AutoCloseable {
+
+    public static final String STATIONS = "getMsrstnList";
+    public static final String REALTIME = "getCtprvnRltmMesureDnsty";
+    public static final String NOWCAST = "getUltraSrtNcst";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final Map<String, ArrayNode> fixtures;
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+    private volatile Duration latency;
+    private volatile Duration jitter;
+    private volatile double errorRate;
+    private volatile double quotaErrorRate;
+    private volatile double stallRate;
+    private volatile Duration stall;
+
+    private FakePublicDataServer(Builder builder) throws IOException {
+        this.latency = builder.latency;
+        this.jitter = builder.jitter;
+        this.errorRate = builder.errorRate;
+        this.quotaErrorRate = builder.quotaErrorRate;
+        this.stallRate = builder.stallRate;
+        this.stall = builder.stall;
+        this.fixtures = Map.of(
+                STATIONS, loadFixture(builder.fixtureDirectory, STATIONS),
+                REALTIME, loadFixture(builder.fixtureDirectory, REALTIME),
+                NOWCAST, loadFixture(builder.fixtureDirectory, NOWCAST));
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", builder.port), builder.backlog);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/B552584/MsrstnInfoInqireSvc/" + STATIONS,
+                exchange -> handle(exchange, STATIONS, this::airKoreaEnvelope));
+        server.createContext("/B552584/ArpltnInforInqireSvc/" + REALTIME,
+                exchange -> handle(exchange, REALTIME, this::airKoreaEnvelope));
+        server.createContext("/1360000/VilageFcstInfoService_2.0/" + NOWCAST,
+                exchange -> handle(exchange, NOWCAST, this::kmaEnvelope));
+        server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getAirKoreaBaseUrl() {
+        return "http://localhost:" + getPort() + "/B552584";
+    }
+
+    public String getKmaBaseUrl() {
+        return "http://localhost:" + getPort() + "/1360000";
+    }
+
+    /**
+     * 앱을 이 서버에 붙이는 실행 인자 (SpringApplicationBuilder.run에 그대로 전달)
+     */
+    public List<String> applicationArgs() {
+        return List.of(
+                "--public.data.api.key=fake-upstream-key",
+                "--public.data.air-korea.base-url=" + getAirKoreaBaseUrl(),
+                "--public.data.kma.base-url=" + getKmaBaseUrl());
+    }
+
+    /**
+     * 해당 API(STATIONS / REALTIME / NOWCAST)로 들어온 요청 수 (페이지마다 1)
+     */
+    public long getRequestCount(String api) {
+        LongAdder count = requests.get(api);
+        return count == null ? 0 : count.sum();
+    }
+
+    public void resetRequestCounts() {
+        requests.clear();
+    }
+
+    // 실행 중에도 바꿀 수 있는 설정 (장애 시나리오 전환용)
+
+    public void setLatency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.jitter = jitter;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public void setQuotaErrorRate(double quotaErrorRate) {
+        this.quotaErrorRate = quotaErrorRate;
+    }
+
+    public void setStall(double stallRate, Duration stall) {
+        this.stallRate = stallRate;
+        this.stall = stall;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    @FunctionalInterface
+    private interface Envelope {
+        String render(List<JsonNode> page, int pageNo, int numOfRows, int totalCount) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String api, Envelope envelope) throws IOException {
+        try (exchange) {
+            requests.computeIfAbsent(api, key -> new LongAdder()).increment();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            sleep(delay());
+
+            // 오류 주입: 응답 지연(읽기 타임아웃) → HTTP 500 → 할당량 초과 순으로 판정
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < stallRate) {
+                sleep(stall);
+            }
+            if (random.nextDouble() < errorRate) {
+                send(exchange, 500, "text/plain", "Internal Server Error");
+                return;
+            }
+            if (query.getOrDefault("serviceKey", "").isEmpty()) {
+                send(exchange, 200, "text/xml;charset=UTF-8", openApiError("30", "SERVICE_KEY_IS_NOT_REGISTERED_ERROR"));
+                return;
+            }
+            if (random.nextDouble() < quotaErrorRate) {
+                send(exchange, 200, "text/xml;charset=UTF-8",
+                        openApiError("22", "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"));
+                return;
+            }
+
+            List<JsonNode> items = select(api, query);
+            int numOfRows = Math.max(parseInt(query.get("numOfRows"), 10), 1);
+            int pageNo = Math.max(parseInt(query.get("pageNo"), 1), 1);
+            int from = Math.min((pageNo - 1) * numOfRows, items.size());
+            int to = Math.min(from + numOfRows, items.size());
+
+            String body = envelope.render(items.subList(from, to), pageNo, numOfRows, items.size());
+            send(exchange, 200, "application/json;charset=UTF-8", fillPlaceholders(body, query));
+        }
+    }
+
+    private List<JsonNode> select(String api, Map<String, String> query) {
+        ArrayNode fixture = fixtures.get(api);
+        List<JsonNode> items = new ArrayList<>(fixture.size());
+        String sidoName = REALTIME.equals(api) ? query.get("sidoName") : null;
+        for (JsonNode item : fixture) {
+            if (sidoName == null || sidoName.equals(item.path("sidoName").asText())) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private String airKoreaEnvelope(List<JsonNode> page, int pageNo, int numOfRows, int totalCount)
+            throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        ObjectNode body = response.putObject("body");
+        body.put("totalCount", totalCount);
+        body.putArray("items").addAll(page);
+        body.put("pageNo", pageNo);
+        body.put("numOfRows", numOfRows);
+        ObjectNode header = response.putObject("header");
+        header.put("resultMsg", "NORMAL_CODE");
+        header.put("resultCode", "00");
+        return MAPPER.writeValueAsString(root);
+    }
+
+    private String kmaEnvelope(List<JsonNode> page, int pageNo, int numOfRows, int totalCount) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode response = root.putObject("response");
+        ObjectNode header = response.putObject("header");
+        header.put("resultCode", "00");
+        header.put("resultMsg", "NORMAL_SERVICE");
+        ObjectNode body = response.putObject("body");
+        body.put("dataType", "JSON");
+        body.putObject("items").putArray("item").addAll(page);
+        body.put("pageNo", pageNo);
+        body.put("numOfRows", numOfRows);
+        body.put("totalCount", totalCount);
+        return MAPPER.writeValueAsString(root);
+    }
+
+    /**
+     * data.go.kr 게이트웨이 오류 응답 (returnType=json이어도 XML로 온다)
+     */
+    private static String openApiError(String code, String message) {
+        return "<OpenAPI_ServiceResponse><cmmMsgHeader>"
+                + "<errMsg>SERVICE ERROR</errMsg>"
+                + "<returnAuthMsg>" + message + "</returnAuthMsg>"
+                + "<returnReasonCode>" + code + "</returnReasonCode>"
+                + "</cmmMsgHeader></OpenAPI_ServiceResponse>";
+    }
+
+    /**
+     * {{dataTime}}: 현재 정시 (에어코리아 형식), 나머지는 요청 파라미터 그대로
+     */
+    private static String fillPlaceholders(String body, Map<String, String> query) {
+        if (body.indexOf("{{") < 0) {
+            return body;
+        }
+        String dataTime = LocalDateTime.now(KST).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00"));
+        return body.replace("{{dataTime}}", dataTime)
+                .replace("{{baseDate}}", query.getOrDefault("base_date", ""))
+                .replace("{{baseTime}}", query.getOrDefault("base_time", ""))
+                .replace("{{nx}}", query.getOrDefault("nx", ""))
+                .replace("{{ny}}", query.getOrDefault("ny", ""));
+    }
+
+    private Duration delay() {
+        Duration base = latency;
+        long jitterMillis = jitter.toMillis();
+        return jitterMillis <= 0 ? base : base.plusMillis(ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static ArrayNode loadFixture(Path directory, String api) {
+        try (InputStream in = directory != null
+                ? Files.newInputStream(directory.resolve(api + ".json"))
+                : FakePublicDataServer.class.getResourceAsStream("/fixtures/public-data/" + api + ".json")) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + api + ".json");
+            }
+            JsonNode items = MAPPER.readTree(in).path("items");
+            if (!items.isArray()) {
+                throw new IllegalStateException("fixture에 items 배열이 없습니다: " + api + ".json");
+            }
+            return (ArrayNode) items;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static final class Builder {
+
+        private int port = 0;
+        private int backlog = 1024;
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private double errorRate;
+        private double quotaErrorRate;
+        private double stallRate;
+        private Duration stall = Duration.ofSeconds(30);
+        private Path fixtureDirectory = systemFixtureDirectory();
+
+        private Builder() {
+        }
+
+        /**
+         * 0이면 빈 포트 (기본)
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * 모든 응답에 더할 지연
+         */
+        public Builder latency(Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * 지연에 더할 0 ~ jitter 무작위 시간
+         */
+        public Builder jitter(Duration jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * HTTP 500 비율 (0 ~ 1)
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * 할당량 초과(resultCode 22, XML) 비율 (0 ~ 1)
+         */
+        public Builder quotaErrorRate(double quotaErrorRate) {
+            this.quotaErrorRate = quotaErrorRate;
+            return this;
+        }
+
+        /**
+         * stallRate 비율의 요청을 stall만큼 더 붙잡는다 (읽기 타임아웃 / 응답 기한 초과 재현)
+         */
+        public Builder stall(double stallRate, Duration stall) {
+            this.stallRate = stallRate;
+            this.stall = stall;
+            return this;
+        }
+
+        /**
+         * 녹화한 응답 디렉터리 ({api}.json, 각 파일은 {"items": [...]})
+         */
+        public Builder fixtureDirectory(Path fixtureDirectory) {
+            this.fixtureDirectory = fixtureDirectory;
+            return this;
+        }
+
+        public FakePublicDataServer start() throws IOException {
+            return new FakePublicDataServer(this);
+        }
+
+        private static Path systemFixtureDirectory() {
+            String directory = System.getProperty("fake-upstream.fixtures");
+            return directory == null || directory.isBlank() ? null : Path.of(directory);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.walkingdog.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CoordinateUtilTest {
+
+    private static final int POINTS = 2000;
+
+    private static double[][] points() {
+        double[] lats = new double[POINTS];
+        double[] lons = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 33.2 + (i % 97) * 0.05;
+            lons[i] = 124.8 + (i % 89) * 0.08;
+        }
+        return new double[][]{lats, lons};
+    }
+
+    @Test
+    void roundTripsThroughTm() {
+        double[] tm = CoordinateUtil.toTM(37.5665, 126.9780);
+        double[] wgs84 = CoordinateUtil.toWGS84(tm[0], tm[1]);
+
+        // UTM-K 서울 시청 부근 (x ≈ 953,900 / y ≈ 1,952,000)
+        assertThat(tm[0]).isBetween(940_000.0, 970_000.0);
+        assertThat(tm[1]).isBetween(1_940_000.0, 1_965_000.0);
+        assertThat(wgs84[0]).isCloseTo(37.5665, within(1e-7));
+        assertThat(wgs84[1]).isCloseTo(126.9780, within(1e-7));
+    }
+
+    @Test
+    void bulkMatchesSinglePointAndAllowsInPlaceOutput() {
+        double[][] points = points();
+        double[] tmX = new double[POINTS];
+        double[] tmY = new double[POINTS];
+        CoordinateUtil.toTM(points[0], points[1], tmX, tmY);
+
+        for (int i = 0; i < POINTS; i += 37) {
+            double[] single = CoordinateUtil.toTM(points[0][i], points[1][i]);
+            assertThat(tmX[i]).isEqualTo(single[0]);
+            assertThat(tmY[i]).isEqualTo(single[1]);
+        }
+
+        // 제자리 역변환
+        CoordinateUtil.toWGS84(tmX, tmY, tmX, tmY);
+        for (int i = 0; i < POINTS; i++) {
+            assertThat(tmX[i]).isCloseTo(points[0][i], within(1e-7));
+            assertThat(tmY[i]).isCloseTo(points[1][i], within(1e-7));
+        }
+    }
+
+    @Test
+    void concurrentCallersGetTheSameResultsAsSequential() throws Exception {
+        double[][] points = points();
+        double[][] expected = new double[POINTS][];
+        for (int i = 0; i < POINTS; i++) {
+            expected[i] = CoordinateUtil.toTM(points[0][i], points[1][i]);
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    int mismatches = 0;
+                    for (int round = 0; round < 5; round++) {
+                        for (int i = offset; i < POINTS; i++) {
+                            double[] tm = CoordinateUtil.toTM(points[0][i], points[1][i]);
+                            if (tm[0] != expected[i][0] || tm[1] != expected[i][1]) {
+                                mismatches++;
+                            }
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertThat(future.get()).isZero();
+            }
+        }
+    }
+
+    @Test
+    void rejectsMismatchedArrayLengths() {
+        assertThatThrownBy(() -> CoordinateUtil.toTM(new double[2], new double[2], new double[1], new double[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}